@@ -21,6 +21,8 @@
     import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
     import java.util.Optional;
+    import java.util.concurrent.CompletableFuture;
+    import java.util.concurrent.CompletionException;
 
     // Placeholder for the functionality that could be shared across Create/Read/Update/Delete/List Handlers
 
@@ -115,6 +117,19 @@
             }
             return ProgressEvent.failed(resourceModel, callbackContext, ex.getErrorCode(), ex.getMessage());
         }
+
+        // Rethrows the failure of a call as if it was issued on the handler thread
+        protected static <T> T join(final CompletableFuture<T> future) {
+            try {
+                return future.join();
+            } catch (final CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+
         protected static String getErrorCode(Exception e) {
             if (e instanceof AwsServiceException) {
                 AwsServiceException ex = (AwsServiceException) e;
@@ -1,8 +1,5 @@
 package software.amazon.cloudformation.stack;
 
-import software.amazon.awssdk.services.cloudformation.model.DescribeStacksResponse;
-import software.amazon.awssdk.services.cloudformation.model.GetStackPolicyResponse;
-import software.amazon.awssdk.services.cloudformation.model.GetTemplateResponse;
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 
 @lombok.Getter
@@ -10,7 +7,8 @@ import software.amazon.cloudformation.proxy.StdCallbackContext;
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
-        private DescribeStacksResponse describeStacksResponse;
-        private GetStackPolicyResponse getStackPolicyResponse;
-        private GetTemplateResponse getTemplateResponse;
+        // Newest stack event seen by StackEventsStabilizer, and what it has learnt from the events so far
+        private String stackEventsCursor;
+        private String stackStatus;
+        private int resourcesDone;
 }
@@ -24,8 +24,22 @@ public class ClientBuilder {
           .retryCondition(RetryCondition.defaultRetryCondition())
           .throttlingBackoffStrategy(STACK_BACKOFF_THROTTLING_STRATEGY)
           .build();
+
+  private ClientBuilder() {
+  }
+
+  /**
+   * Get the CloudFormationClient shared by all handler invocations of this container, it is built on first use
+   *
+   * @return {@link CloudFormationClient}
+   */
   public static CloudFormationClient getClient() {
-    return CloudFormationClient.builder()
+    return LazyHolder.SERVICE_CLIENT;
+  }
+
+  private static class LazyHolder {
+
+    private static final CloudFormationClient SERVICE_CLIENT = CloudFormationClient.builder()
         .httpClient(LambdaWrapper.HTTP_CLIENT)
         .overrideConfiguration(ClientOverrideConfiguration.builder()
             .retryPolicy(STACK_RETRY_POLICY)
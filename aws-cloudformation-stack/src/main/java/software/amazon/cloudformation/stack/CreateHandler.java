@@ -4,7 +4,7 @@ import com.google.common.collect.Maps;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.cloudformation.CloudFormationClient;
 import software.amazon.awssdk.services.cloudformation.model.CreateStackResponse;
-import software.amazon.awssdk.services.cloudformation.model.DescribeStacksResponse;
+import software.amazon.awssdk.services.cloudformation.model.StackStatus;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
@@ -57,29 +57,30 @@ public class CreateHandler extends BaseHandlerStd {
                         logger.log(String.format("%s successfully created.", ResourceModel.TYPE_NAME));
                         return awsResponse;
                     })
-                    .stabilize((awsRequest, awsResponse, client, _model, context) -> stabilizeCreate(client, awsResponse,_model, logger))
+                    .stabilize((awsRequest, awsResponse, client, _model, context) -> stabilizeCreate(client, awsResponse, _model, context, logger))
                     .handleError((awsRequest, exception, client, _model, context) -> handleError(awsRequest, exception, client, _model, context))
                     .progress()
             )
             .then(progress -> ProgressEvent.defaultSuccessHandler(progress.getResourceModel()));
     }
 
-    private boolean stabilizeCreate(ProxyClient<CloudFormationClient> proxyClient, CreateStackResponse awsResponse, ResourceModel model, Logger logger) {
+    private boolean stabilizeCreate(ProxyClient<CloudFormationClient> proxyClient, CreateStackResponse awsResponse, ResourceModel model,
+                                    CallbackContext context, Logger logger) {
         model.setStackId(awsResponse.stackId());
-        DescribeStacksResponse describeStacksResponse;
+        StackStatus stackStatus;
         try {
-            describeStacksResponse = proxyClient.injectCredentialsAndInvokeV2(Translator.translateToReadRequest(model), proxyClient.client()::describeStacks);
+            stackStatus = StackEventsStabilizer.poll(proxyClient, model.getStackId(), context, logger);
         } catch (final AwsServiceException e) {
             if (e.getMessage().contains("does not exist")) {
                 return false;
             }
             throw e;
         }
-        if (describeStacksResponse.stacks().isEmpty()) {
+        if (stackStatus == null) {
             return false;
         }
         String stackId = model.getStackId();
-        switch(describeStacksResponse.stacks().get(0).stackStatus()) {
+        switch(stackStatus) {
             case CREATE_COMPLETE: {
                 logger.log(String.format("%s [%s] has been stabilized.", ResourceModel.TYPE_NAME, model.getPrimaryIdentifier()));
                 return true;
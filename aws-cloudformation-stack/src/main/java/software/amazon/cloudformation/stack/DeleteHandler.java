@@ -3,8 +3,6 @@ package software.amazon.cloudformation.stack;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.cloudformation.CloudFormationClient;
 import software.amazon.awssdk.services.cloudformation.model.DeleteStackResponse;
-import software.amazon.awssdk.services.cloudformation.model.DescribeStacksRequest;
-import software.amazon.awssdk.services.cloudformation.model.DescribeStacksResponse;
 import software.amazon.awssdk.services.cloudformation.model.StackStatus;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
@@ -38,23 +36,24 @@ public class DeleteHandler extends BaseHandlerStd {
                     .translateToServiceRequest(Translator::translateToDeleteRequest)
                     .makeServiceCall((awsRequest, client) -> {
                         logger.log(String.format("%s %s", this.getClass(), Optional.ofNullable(request.getClientRequestToken()).orElse("")));
+                        StackEventsStabilizer.start(client, awsRequest.stackName(), progress.getCallbackContext());
                         DeleteStackResponse awsResponse = client.injectCredentialsAndInvokeV2(awsRequest, client.client()::deleteStack);
                         logger.log(String.format("%s successfully deleted.", ResourceModel.TYPE_NAME));
                         return awsResponse;
                     })
                     // for more information -> https://docs.aws.amazon.com/cloudformation-cli/latest/userguide/resource-type-test-contract.html
-                    .stabilize((awsRequest, awsResponse, client, model, context) -> stabilizeDelete(proxyClient, awsResponse, model, logger))
+                    .stabilize((awsRequest, awsResponse, client, model, context) -> stabilizeDelete(proxyClient, awsResponse, model, context, logger))
                     .handleError((awsRequest, exception, client, _model, context) -> handleError(awsRequest, exception, client, _model, context))
                     .progress()
             )
             .then(progress -> ProgressEvent.defaultSuccessHandler(null));
     }
 
-    private boolean stabilizeDelete(ProxyClient<CloudFormationClient> proxyClient, DeleteStackResponse awsResponse, ResourceModel model, Logger logger) {
-        DescribeStacksResponse describeStacksResponse;
+    private boolean stabilizeDelete(ProxyClient<CloudFormationClient> proxyClient, DeleteStackResponse awsResponse, ResourceModel model,
+                                    CallbackContext context, Logger logger) {
+        StackStatus status;
         try {
-            describeStacksResponse = proxyClient.injectCredentialsAndInvokeV2(DescribeStacksRequest.builder()
-                .stackName(model.getStackId()).build(), proxyClient.client()::describeStacks);
+            status = StackEventsStabilizer.poll(proxyClient, model.getStackId(), context, logger);
         } catch (final AwsServiceException e) {
             if (e.getMessage().contains("does not exist")) {
                 logger.log(String.format("%s %s deletion has stabilized", ResourceModel.TYPE_NAME, model.getPrimaryIdentifier()));
@@ -62,10 +61,9 @@ public class DeleteHandler extends BaseHandlerStd {
             }
             throw new CfnGeneralServiceException(e.getMessage(), e);
         }
-        if (describeStacksResponse.stacks().isEmpty()) {
-            return true;
+        if (status == null) {
+            return false;
         }
-        StackStatus status = describeStacksResponse.stacks().get(0).stackStatus();
         switch(status) {
             case DELETE_COMPLETE: {
                 logger.log(String.format("%s [%s] deletion has stabilized", ResourceModel.TYPE_NAME, model.getPrimaryIdentifier()));
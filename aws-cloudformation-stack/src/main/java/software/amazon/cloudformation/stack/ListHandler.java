@@ -1,6 +1,10 @@
 package software.amazon.cloudformation.stack;
 
 import software.amazon.awssdk.services.cloudformation.CloudFormationClient;
+import software.amazon.awssdk.services.cloudformation.model.ListStacksRequest;
+import software.amazon.awssdk.services.cloudformation.model.ListStacksResponse;
+import software.amazon.awssdk.services.cloudformation.model.StackStatus;
+import software.amazon.awssdk.services.cloudformation.model.StackSummary;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -8,8 +12,18 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
 public class ListHandler extends BaseHandlerStd {
 
+    // Stacks returned per invocation, ListStacks pages are read until it is reached
+    static final int LIST_PAGE_SIZE = 100;
+
+    // ListStacks pages read per invocation at most, the rest is resumed with the nextToken
+    static final int LIST_PAGES_PER_REQUEST = 10;
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -19,12 +33,16 @@ public class ListHandler extends BaseHandlerStd {
         final Logger logger) {
        logger.log(String.format("[StackId: %s, ClientRequestToken: %s] Calling List Stack", request.getStackId(),
             request.getClientRequestToken()));
+       final ResourceModel desiredModel = request.getDesiredResourceState();
+       if (desiredModel != null && desiredModel.getRootId() != null) {
+           return listStackTree(proxy, request, callbackContext, proxyClient, desiredModel.getRootId(), logger);
+       }
        return proxy.initiate("AWS-CloudFormation-Stack::List", proxyClient, request.getDesiredResourceState(), callbackContext)
            .translateToServiceRequest((rm) -> {
                String token = request.getNextToken();
                return Translator.translateToListRequest(token);
            })
-           .makeServiceCall((awsRequest, client) -> client.injectCredentialsAndInvokeV2(awsRequest, client.client()::listStacks))
+           .makeServiceCall((awsRequest, client) -> listPages(awsRequest, client, summary -> true, logger))
            .handleError((awsRequest, exception, client, model, context) -> handleError(awsRequest, exception, client, model, context))
            .done((rq, rp, client, model, context) ->  ProgressEvent.<ResourceModel, CallbackContext>builder()
                .resourceModels(Translator.translateFromListResponse(rp))
@@ -32,4 +50,59 @@ public class ListHandler extends BaseHandlerStd {
                .status(OperationStatus.SUCCESS)
                .build());
     }
+
+    /**
+     * Lists the root stack given as RootId of the desired model together with its nested stacks. Deleted stacks are
+     * filtered out, and the stacks returned are ordered so that each parent is followed by its nested
+     * stacks.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> listStackTree(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final ProxyClient<CloudFormationClient> proxyClient,
+        final String rootId,
+        final Logger logger) {
+        return proxy.initiate("AWS-CloudFormation-Stack::ListStackTree", proxyClient, request.getDesiredResourceState(), callbackContext)
+            .translateToServiceRequest((rm) -> Translator.translateToListRequest(request.getNextToken()))
+            .makeServiceCall((awsRequest, client) -> listPages(awsRequest, client, summary -> StackTree.belongsTo(rootId, summary), logger))
+            .handleError((awsRequest, exception, client, model, context) -> handleError(awsRequest, exception, client, model, context))
+            .done((rq, rp, client, model, context) -> ProgressEvent.<ResourceModel, CallbackContext>builder()
+                .resourceModels(Translator.translateFromListStackTreeResponse(rp))
+                .nextToken(rp.nextToken())
+                .status(OperationStatus.SUCCESS)
+                .build());
+    }
+
+    /**
+     * Reads ListStacks pages until LIST_PAGE_SIZE stacks are kept, the pages run out or LIST_PAGES_PER_REQUEST pages
+     * have been read
+     * @return response holding the stacks kept from all the pages read, and the nextToken of the last one
+     */
+    private ListStacksResponse listPages(final ListStacksRequest awsRequest,
+                                         final ProxyClient<CloudFormationClient> client,
+                                         final Predicate<StackSummary> keep,
+                                         final Logger logger) {
+        final List<StackSummary> summaries = new ArrayList<>();
+        ListStacksRequest pageRequest = awsRequest;
+        ListStacksResponse page;
+        int calls = 0;
+        do {
+            page = client.injectCredentialsAndInvokeV2(pageRequest, client.client()::listStacks);
+            calls++;
+            for (final StackSummary summary : page.stackSummaries()) {
+                // Any status but DELETE_COMPLETE is kept, including statuses newer than the SDK
+                if (summary.stackStatus() != StackStatus.DELETE_COMPLETE && keep.test(summary)) {
+                    summaries.add(summary);
+                }
+            }
+            pageRequest = Translator.translateToListRequest(page.nextToken());
+        } while (page.nextToken() != null && summaries.size() < LIST_PAGE_SIZE && calls < LIST_PAGES_PER_REQUEST);
+        logger.log(String.format("%s List page filled with [%d] of [%d] stacks (fill ratio %.2f) in [%d] ListStacks calls",
+            ResourceModel.TYPE_NAME, summaries.size(), LIST_PAGE_SIZE, (double) summaries.size() / LIST_PAGE_SIZE, calls));
+        return ListStacksResponse.builder()
+            .stackSummaries(summaries)
+            .nextToken(page.nextToken())
+            .build();
+    }
 }
@@ -1,6 +1,5 @@
 package software.amazon.cloudformation.stack;
 
-import org.json.JSONObject;
 import software.amazon.awssdk.services.cloudformation.CloudFormationClient;
 import software.amazon.awssdk.services.cloudformation.model.DescribeStacksResponse;
 import software.amazon.awssdk.services.cloudformation.model.GetStackPolicyResponse;
@@ -13,8 +12,19 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 
 public class ReadHandler extends BaseHandlerStd {
+    // GetTemplate and GetStackPolicy are issued on these threads while DescribeStacks runs on the handler thread
+    private static final ExecutorService READ_EXECUTOR = Executors.newFixedThreadPool(2, runnable -> {
+        final Thread thread = new Thread(runnable, "AWS-CloudFormation-Stack-Read");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -28,59 +38,47 @@ public class ReadHandler extends BaseHandlerStd {
         logger.log(String.format("[StackId: %s, ClientRequestToken: %s] Calling Read Stack", request.getStackId(),
             request.getClientRequestToken()));
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-            .then(progress -> proxy.initiate("AWS-CloudFormation-Stack::GetTemplate", proxyClient, request.getDesiredResourceState(),
-                callbackContext)
-            .translateToServiceRequest(Translator::translateToGetTemplateRequest)
-            .makeServiceCall((awsRequest, client) -> {
-                GetTemplateResponse awsResponse = client.injectCredentialsAndInvokeV2(awsRequest, client.client()::getTemplate);
-                return awsResponse;
-            })
-            .handleError(
-                (awsRequest, exception, client, _model, context) -> handleError(awsRequest, exception, client, _model, context))
-            .done((req, res, cli, m, cc) -> {
-                cc.setGetTemplateResponse(res);
-                return ProgressEvent.progress(m, cc);
-            }))
-            .then(progress -> proxy.initiate("AWS-CloudFormation-Stack::GetStackPolicy", proxyClient, request.getDesiredResourceState(),
-                    callbackContext)
-                .translateToServiceRequest(Translator::translateToGetStackPolicyRequest)
-                .makeServiceCall((awsRequest, client) -> {
-                    GetStackPolicyResponse awsResponse = client.injectCredentialsAndInvokeV2(awsRequest, client.client()::getStackPolicy);
-                    return awsResponse;
-                })
-                .handleError(
-                    (awsRequest, exception, client, _model, context) -> handleError(awsRequest, exception, client, _model, context))
-                .done((req, res, cli, m, cc) -> {
-                    cc.setGetStackPolicyResponse(res);
-                    return ProgressEvent.progress(m, cc);
-                }))
             .then(progress -> proxy.initiate("AWS-CloudFormation-Stack::Read", proxyClient, request.getDesiredResourceState(),
                     callbackContext)
                 .translateToServiceRequest(Translator::translateToReadRequest)
                 .makeServiceCall((awsRequest, client) -> {
-                    DescribeStacksResponse awsResponse = client.injectCredentialsAndInvokeV2(awsRequest, client.client()::describeStacks);
+                    // The three calls are independent, so the read takes as long as the slowest of them
+                    final CompletableFuture<GetTemplateResponse> getTemplate = CompletableFuture.supplyAsync(
+                        () -> client.injectCredentialsAndInvokeV2(Translator.translateToGetTemplateRequest(request.getDesiredResourceState()),
+                            client.client()::getTemplate), READ_EXECUTOR);
+                    final CompletableFuture<GetStackPolicyResponse> getStackPolicy = CompletableFuture.supplyAsync(
+                        () -> client.injectCredentialsAndInvokeV2(Translator.translateToGetStackPolicyRequest(request.getDesiredResourceState()),
+                            client.client()::getStackPolicy), READ_EXECUTOR);
+                    final DescribeStacksResponse awsResponse;
+                    try {
+                        awsResponse = client.injectCredentialsAndInvokeV2(awsRequest, client.client()::describeStacks);
+                    } finally {
+                        CompletableFuture.allOf(getTemplate, getStackPolicy).handle((result, e) -> result).join();
+                    }
                     if (awsResponse.stacks().isEmpty() || awsResponse.stacks().get(0).stackStatus() == StackStatus.DELETE_COMPLETE) {
                         throw new CfnNotFoundException(ResourceModel.TYPE_NAME, request.getDesiredResourceState().getStackName());
                     }
                     logger.log(String.format("%s has successfully been read.", ResourceModel.TYPE_NAME));
-                    return awsResponse;
+                    return new StackRead(awsResponse, join(getTemplate).templateBody(), join(getStackPolicy).stackPolicyBody());
                 })
                 .handleError(
                     (awsRequest, exception, client, _model, context) -> handleError(awsRequest, exception, client, _model, context))
                 .done((req, res, cli, m, cc) -> {
-                    cc.setDescribeStacksResponse(res);
-                    return ProgressEvent.progress(m, cc);
-                }))
-            .then(progress -> {
-                DescribeStacksResponse dr = callbackContext.getDescribeStacksResponse();
-                GetStackPolicyResponse gr = callbackContext.getGetStackPolicyResponse();
-                GetTemplateResponse tr = callbackContext.getGetTemplateResponse();
-                ResourceModel finalModel =
-                    dr.stacks().isEmpty() ? request.getDesiredResourceState() : Translator.translateFromReadResponse(dr.stacks().get(0));
-                if (gr.stackPolicyBody() != null) finalModel.setStackPolicyBody(new JSONObject(gr.stackPolicyBody()).toMap());
-                if (tr.templateBody() != null) finalModel.setTemplateBody(new JSONObject(tr.templateBody()).toMap());
-                return ProgressEvent.defaultSuccessHandler(finalModel);
-            });
+                    final DescribeStacksResponse dr = res.getDescribeStacksResponse();
+                    ResourceModel finalModel =
+                        dr.stacks().isEmpty() ? request.getDesiredResourceState() : Translator.translateFromReadResponse(dr.stacks().get(0));
+                    if (res.getStackPolicyBody() != null) finalModel.setStackPolicyBody(TemplateCodec.fromJson(res.getStackPolicyBody()));
+                    if (res.getTemplateBody() != null) finalModel.setTemplateBody(TemplateCodec.fromJson(res.getTemplateBody()));
+                    return ProgressEvent.defaultSuccessHandler(finalModel);
+                }));
+    }
+
+    // What the three read calls return for the model, handed from the service call to done without the CallbackContext
+    @lombok.Value
+    private static class StackRead {
+        DescribeStacksResponse describeStacksResponse;
+        String templateBody;
+        String stackPolicyBody;
     }
 
 }
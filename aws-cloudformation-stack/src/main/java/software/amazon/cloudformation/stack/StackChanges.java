@@ -0,0 +1,281 @@
+package software.amazon.cloudformation.stack;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares the previous and desired models of an update to find which calls it needs.
+ * <p>
+ * Each side is reduced to a SHA-256 digest of the canonical form of what an update call sends, fed straight from
+ * the model structure without serializing the template. In the canonical form:
+ * <ul>
+ *   <li>map keys are sorted, and null values are dropped as they are when the template is sent;</li>
+ *   <li>numbers are compared by value, so 1, 1L and 1.0 are the same;</li>
+ *   <li>tags, notification ARNs and capabilities are compared as sets;</li>
+ *   <li>a missing collection is the same as an empty one.</li>
+ * </ul>
+ * A template or stack policy given by URL may have changed behind the same URL, so it always counts as changed.
+ * So does a template whose deployment is resolved again on every update even when it is unchanged, as only the
+ * service can tell whether that update changes anything: templates and parameters holding dynamic references,
+ * templates with SSM parameter types, nested stacks, whose templates may have changed behind the same URL, and
+ * transforms such as AWS::Include, whose output may have changed.
+ */
+final class StackChanges {
+
+  // Type tags that keep values of different types, or of different nesting, from digesting the same
+  private static final byte NULL = 0;
+  private static final byte STRING = 1;
+  private static final byte NUMBER = 2;
+  private static final byte BOOLEAN = 3;
+  private static final byte MAP = 4;
+  private static final byte LIST = 5;
+  private static final byte SET = 6;
+
+  private static final String DYNAMIC_REFERENCE = "{{resolve:";
+  private static final String TRANSFORM = "Transform";
+  private static final String FN_TRANSFORM = "Fn::Transform";
+  private static final String TYPE = "Type";
+  private static final String NESTED_STACK_TYPE = "AWS::CloudFormation::Stack";
+  private static final String SSM_PARAMETER_TYPE_PREFIX = "AWS::SSM::Parameter::";
+
+  private StackChanges() {
+  }
+
+  /**
+   * @param previous previous resource model, null if unknown
+   * @param desired desired resource model
+   * @param previousResourceTags previous stack-level tags of the request, null if none
+   * @param desiredResourceTags desired stack-level tags of the request, null if none
+   * @return whether UpdateStack has to be called
+   */
+  static boolean requiresUpdateStack(final ResourceModel previous,
+                                     final ResourceModel desired,
+                                     final Map<String, String> previousResourceTags,
+                                     final Map<String, String> desiredResourceTags) {
+    if (previous == null || desired.getTemplateURL() != null) {
+      return true;
+    }
+    if (resolvedOnUpdate(desired.getTemplateBody()) || resolvedOnUpdate(desired.getParameters())) {
+      return true;
+    }
+    return !Arrays.equals(resourceTagsDigest(previousResourceTags), resourceTagsDigest(desiredResourceTags))
+        || !Arrays.equals(updateStackDigest(previous), updateStackDigest(desired));
+  }
+
+  /**
+   * @param previous previous resource model, null if unknown
+   * @param desired desired resource model
+   * @return whether the stack policy has to be set
+   */
+  static boolean stackPolicyChanged(final ResourceModel previous, final ResourceModel desired) {
+    if (desired.getStackPolicyURL() != null) {
+      return true;
+    }
+    // A stack policy cannot be removed, only replaced
+    if (desired.getStackPolicyBody() == null) {
+      return false;
+    }
+    return previous == null
+        || !Arrays.equals(digest(previous.getStackPolicyBody()), digest(desired.getStackPolicyBody()));
+  }
+
+  /**
+   * @param previous previous resource model, null if unknown
+   * @param desired desired resource model
+   * @return whether termination protection has to be updated
+   */
+  static boolean terminationProtectionChanged(final ResourceModel previous, final ResourceModel desired) {
+    return desired.getEnableTerminationProtection() != null
+        && (previous == null || !desired.getEnableTerminationProtection().equals(previous.getEnableTerminationProtection()));
+  }
+
+  // Whether a template or parameter values hold anything the service resolves again on every update
+  private static boolean resolvedOnUpdate(final Object value) {
+    if (value instanceof String) {
+      return ((String) value).contains(DYNAMIC_REFERENCE);
+    }
+    if (value instanceof Map) {
+      for (final Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+        if (TRANSFORM.equals(entry.getKey()) || FN_TRANSFORM.equals(entry.getKey())) {
+          return true;
+        }
+        if (TYPE.equals(entry.getKey()) && entry.getValue() instanceof String) {
+          final String type = (String) entry.getValue();
+          if (NESTED_STACK_TYPE.equals(type) || type.startsWith(SSM_PARAMETER_TYPE_PREFIX)) {
+            return true;
+          }
+        }
+        if (resolvedOnUpdate(entry.getValue())) {
+          return true;
+        }
+      }
+    } else if (value instanceof List) {
+      for (final Object element : (List<?>) value) {
+        if (resolvedOnUpdate(element)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  // Everything UpdateStack is sent, apart from the stack policy
+  static byte[] updateStackDigest(final ResourceModel model) {
+    final Digest digest = new Digest();
+    digest.map(model.getTemplateBody());
+    digest.map(model.getParameters());
+    digest.tags(model.getTags());
+    digest.set(model.getNotificationARNs());
+    digest.set(model.getCapabilities());
+    digest.value(model.getRoleARN());
+    digest.value(model.getDisableRollback());
+    return digest.finish();
+  }
+
+  // A missing map of request tags is the same as an empty one
+  static byte[] resourceTagsDigest(final Map<String, String> resourceTags) {
+    final Digest digest = new Digest();
+    digest.map(resourceTags);
+    return digest.finish();
+  }
+
+  static byte[] digest(final Object value) {
+    final Digest digest = new Digest();
+    digest.value(value);
+    return digest.finish();
+  }
+
+  private static final class Digest {
+
+    private final MessageDigest messageDigest = newMessageDigest();
+
+    void value(final Object value) {
+      if (value == null) {
+        messageDigest.update(NULL);
+      } else if (value instanceof String) {
+        string(STRING, (String) value);
+      } else if (value instanceof Boolean) {
+        messageDigest.update(BOOLEAN);
+        messageDigest.update((byte) ((Boolean) value ? 1 : 0));
+      } else if (value instanceof Number) {
+        string(NUMBER, canonicalNumber((Number) value));
+      } else if (value instanceof Map) {
+        map((Map<?, ?>) value);
+      } else if (value instanceof List) {
+        list((List<?>) value);
+      } else {
+        string(STRING, value.toString());
+      }
+    }
+
+    void tags(final List<Tag> tags) {
+      final Map<String, String> byKey = new TreeMap<>();
+      if (tags != null) {
+        for (final Tag tag : tags) {
+          byKey.put(tag.getKey(), tag.getValue());
+        }
+      }
+      map(byKey);
+    }
+
+    // Elements are digested one by one and their digests sorted, so that the order of the elements does not matter
+    void set(final Collection<?> values) {
+      final List<byte[]> digests = new ArrayList<>(values == null ? 0 : values.size());
+      if (values != null) {
+        for (final Object value : values) {
+          digests.add(digest(value));
+        }
+      }
+      digests.sort(StackChanges::compare);
+      messageDigest.update(SET);
+      length(digests.size());
+      digests.forEach(messageDigest::update);
+    }
+
+    byte[] finish() {
+      return messageDigest.digest();
+    }
+
+    void map(final Map<?, ?> map) {
+      final Map<String, Object> sorted = new TreeMap<>();
+      if (map != null) {
+        for (final Map.Entry<?, ?> entry : map.entrySet()) {
+          if (entry.getValue() != null) {
+            sorted.put(String.valueOf(entry.getKey()), entry.getValue());
+          }
+        }
+      }
+      messageDigest.update(MAP);
+      length(sorted.size());
+      for (final Map.Entry<String, Object> entry : sorted.entrySet()) {
+        string(STRING, entry.getKey());
+        value(entry.getValue());
+      }
+    }
+
+    private void list(final List<?> list) {
+      messageDigest.update(LIST);
+      length(list.size());
+      for (final Object element : list) {
+        value(element);
+      }
+    }
+
+    private void string(final byte type, final String value) {
+      final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+      messageDigest.update(type);
+      length(bytes.length);
+      messageDigest.update(bytes);
+    }
+
+    private void length(final int length) {
+      messageDigest.update(ByteBuffer.allocate(Integer.BYTES).putInt(length).array());
+    }
+  }
+
+  private static String canonicalNumber(final Number number) {
+    final BigDecimal decimal;
+    if (number instanceof BigDecimal) {
+      decimal = (BigDecimal) number;
+    } else if (number instanceof BigInteger) {
+      decimal = new BigDecimal((BigInteger) number);
+    } else if (number instanceof Double || number instanceof Float) {
+      final double value = number.doubleValue();
+      if (Double.isNaN(value) || Double.isInfinite(value)) {
+        return Double.toString(value);
+      }
+      decimal = BigDecimal.valueOf(value);
+    } else {
+      decimal = BigDecimal.valueOf(number.longValue());
+    }
+    return decimal.signum() == 0 ? "0" : decimal.stripTrailingZeros().toPlainString();
+  }
+
+  private static int compare(final byte[] left, final byte[] right) {
+    for (int i = 0; i < Math.min(left.length, right.length); i++) {
+      final int diff = Byte.compare(left[i], right[i]);
+      if (diff != 0) {
+        return diff;
+      }
+    }
+    return Integer.compare(left.length, right.length);
+  }
+
+  private static MessageDigest newMessageDigest() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,98 @@
+package software.amazon.cloudformation.stack;
+
+import software.amazon.awssdk.services.cloudformation.CloudFormationClient;
+import software.amazon.awssdk.services.cloudformation.model.DescribeStackEventsResponse;
+import software.amazon.awssdk.services.cloudformation.model.StackEvent;
+import software.amazon.awssdk.services.cloudformation.model.StackStatus;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Follows a stack operation through DescribeStackEvents instead of describing the whole stack on every
+ * stabilization attempt.
+ * <p>
+ * Events are returned newest first, so a poll only pages back to the newest event seen by the previous poll. That
+ * event id is kept in the CallbackContext along with the last status of the stack, which is taken from the newest
+ * stack-level event. Resource events that end an operation on a resource are counted as well to report how far
+ * along the stack operation is. Only the count is kept, as the CallbackContext is sent back on every callback.
+ */
+final class StackEventsStabilizer {
+
+  static final String STACK_RESOURCE_TYPE = "AWS::CloudFormation::Stack";
+
+  private StackEventsStabilizer() {
+  }
+
+  /**
+   * Remembers the newest event of an existing stack before an operation is started on it, so that only the events
+   * of that operation are looked at afterwards
+   * @param proxyClient the aws service client to make the call
+   * @param stackId id of the stack
+   * @param context callback context the cursor is kept in
+   */
+  static void start(final ProxyClient<CloudFormationClient> proxyClient, final String stackId, final CallbackContext context) {
+    final DescribeStackEventsResponse response = proxyClient.injectCredentialsAndInvokeV2(
+        Translator.translateToDescribeStackEventsRequest(stackId, null), proxyClient.client()::describeStackEvents);
+    context.setStackEventsCursor(response.stackEvents().isEmpty() ? null : response.stackEvents().get(0).eventId());
+    context.setStackStatus(null);
+    context.setResourcesDone(0);
+  }
+
+  /**
+   * Reads the events written since the previous poll
+   * @param proxyClient the aws service client to make the call
+   * @param stackId id of the stack
+   * @param context callback context the cursor and progress are kept in
+   * @param logger logger to report progress to
+   * @return status of the stack in its newest event of the operation, null if there is none yet
+   */
+  static StackStatus poll(final ProxyClient<CloudFormationClient> proxyClient,
+                          final String stackId,
+                          final CallbackContext context,
+                          final Logger logger) {
+    final List<StackEvent> events = new ArrayList<>();
+    boolean reachedCursor = false;
+    String nextToken = null;
+    do {
+      final DescribeStackEventsResponse response = proxyClient.injectCredentialsAndInvokeV2(
+          Translator.translateToDescribeStackEventsRequest(stackId, nextToken), proxyClient.client()::describeStackEvents);
+      for (final StackEvent event : response.stackEvents()) {
+        if (event.eventId().equals(context.getStackEventsCursor())) {
+          reachedCursor = true;
+          break;
+        }
+        events.add(event);
+      }
+      nextToken = response.nextToken();
+    } while (!reachedCursor && nextToken != null);
+
+    if (!events.isEmpty()) {
+      context.setStackEventsCursor(events.get(0).eventId());
+      // Oldest first, so that the latest status of the stack and of each resource wins
+      for (int i = events.size() - 1; i >= 0; i--) {
+        track(events.get(i), context);
+      }
+      logger.log(String.format("%s [%s] is in %s, %d resources done", ResourceModel.TYPE_NAME, stackId,
+          context.getStackStatus(), context.getResourcesDone()));
+    }
+    return context.getStackStatus() == null ? null : StackStatus.fromValue(context.getStackStatus());
+  }
+
+  private static void track(final StackEvent event, final CallbackContext context) {
+    final String status = event.resourceStatusAsString();
+    if (isStackEvent(event)) {
+      context.setStackStatus(status);
+    } else if (!status.endsWith("_IN_PROGRESS")) {
+      context.setResourcesDone(context.getResourcesDone() + 1);
+    }
+  }
+
+  // Nested stacks are resources of the same type, but their physical id is not the id of the stack itself
+  private static boolean isStackEvent(final StackEvent event) {
+    return STACK_RESOURCE_TYPE.equals(event.resourceType()) && event.stackId() != null
+        && event.stackId().equals(event.physicalResourceId());
+  }
+}
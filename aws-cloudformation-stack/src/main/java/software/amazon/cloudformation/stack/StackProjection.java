@@ -0,0 +1,68 @@
+package software.amazon.cloudformation.stack;
+
+import software.amazon.awssdk.services.cloudformation.model.Parameter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Projects the tags, parameters and outputs of a described Stack onto the resource model.
+ * <p>
+ * Collections are sized from the SDK lists up front and filled in a single pass.
+ */
+final class StackProjection {
+
+  static final String SYSTEM_TAG_PREFIX = "aws:";
+
+  private StackProjection() {
+  }
+
+  /**
+   * @param tags tags of the described stack
+   * @return tags of the stack without the aws: system tags, null if there are none left
+   */
+  static List<Tag> tags(final List<software.amazon.awssdk.services.cloudformation.model.Tag> tags) {
+    final List<Tag> modelTags = new ArrayList<>(tags.size());
+    for (final software.amazon.awssdk.services.cloudformation.model.Tag tag : tags) {
+      if (!tag.key().startsWith(SYSTEM_TAG_PREFIX)) {
+        modelTags.add(Tag.builder().key(tag.key()).value(tag.value()).build());
+      }
+    }
+    return modelTags.isEmpty() ? null : modelTags;
+  }
+
+  /**
+   * @param parameters parameters of the described stack
+   * @return parameter values by key, null if the stack has no parameters
+   */
+  static Map<String, String> parameters(final List<Parameter> parameters) {
+    if (parameters.isEmpty()) {
+      return null;
+    }
+    // Sized so that the map is never rehashed at the default load factor
+    final Map<String, String> modelParameters = new HashMap<>(parameters.size() * 4 / 3 + 1);
+    for (final Parameter parameter : parameters) {
+      modelParameters.put(parameter.parameterKey(), parameter.parameterValue());
+    }
+    return modelParameters;
+  }
+
+  /**
+   * @param outputs outputs of the described stack
+   * @return outputs of the stack
+   */
+  static List<Output> outputs(final List<software.amazon.awssdk.services.cloudformation.model.Output> outputs) {
+    final List<Output> modelOutputs = new ArrayList<>(outputs.size());
+    for (final software.amazon.awssdk.services.cloudformation.model.Output output : outputs) {
+      modelOutputs.add(Output.builder()
+          .outputKey(output.outputKey())
+          .outputValue(output.outputValue())
+          .description(output.description())
+          .exportName(output.exportName())
+          .build());
+    }
+    return modelOutputs;
+  }
+}
@@ -0,0 +1,71 @@
+package software.amazon.cloudformation.stack;
+
+import software.amazon.awssdk.services.cloudformation.model.StackSummary;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Orders stack summaries by their nested stack tree, using the ParentId of each summary.
+ * <p>
+ * Every stack is placed after its parent, and the nested stacks of a parent follow it directly. A stack whose
+ * parent is not among the summaries starts a group of its own, so nested stacks listed before their root still
+ * come out together.
+ */
+final class StackTree {
+
+  private StackTree() {
+  }
+
+  /**
+   * @param rootId id of the root stack
+   * @param summary summary from ListStacks
+   * @return whether the summary is the root stack or one of its nested stacks
+   */
+  static boolean belongsTo(final String rootId, final StackSummary summary) {
+    return rootId.equals(summary.stackId()) || rootId.equals(summary.rootId());
+  }
+
+  /**
+   * @param summaries stack summaries, in the order ListStacks returned them
+   * @return the same summaries, each parent followed by its nested stacks
+   */
+  static List<StackSummary> order(final List<StackSummary> summaries) {
+    final Set<String> stackIds = new HashSet<>();
+    for (final StackSummary summary : summaries) {
+      stackIds.add(summary.stackId());
+    }
+    final Map<String, List<StackSummary>> children = new HashMap<>();
+    final List<StackSummary> tops = new ArrayList<>();
+    for (final StackSummary summary : summaries) {
+      if (summary.parentId() != null && stackIds.contains(summary.parentId())) {
+        children.computeIfAbsent(summary.parentId(), parentId -> new ArrayList<>()).add(summary);
+      } else {
+        tops.add(summary);
+      }
+    }
+
+    final List<StackSummary> ordered = new ArrayList<>(summaries.size());
+    final Deque<StackSummary> pending = new ArrayDeque<>();
+    for (final StackSummary top : tops) {
+      pending.push(top);
+      while (!pending.isEmpty()) {
+        final StackSummary summary = pending.pop();
+        ordered.add(summary);
+        final List<StackSummary> nested = children.getOrDefault(summary.stackId(), Collections.emptyList());
+        // Pushed in reverse so that nested stacks keep the order they were listed in
+        for (int i = nested.size() - 1; i >= 0; i--) {
+          pending.push(nested.get(i));
+        }
+      }
+    }
+    return ordered;
+  }
+}
@@ -0,0 +1,157 @@
+package software.amazon.cloudformation.stack;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.AbstractMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Converts TemplateBody and StackPolicyBody between the JSON strings of the CloudFormation API and the maps of
+ * the resource model with Jackson.
+ * <p>
+ * Bodies read from CloudFormation are only checked with a streaming parser, and are kept as their JSON string
+ * until a field of the map is accessed. Such a body is passed through untouched when it is serialized again,
+ * whether into a request or into the resource model of a handler response.
+ */
+final class TemplateCodec {
+
+  private static final TypeReference<LinkedHashMap<String, Object>> MAP_TYPE =
+      new TypeReference<LinkedHashMap<String, Object>>() {};
+
+  // Null values are dropped the same way JSONObject did
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+      .setDefaultPropertyInclusion(JsonInclude.Value.construct(JsonInclude.Include.NON_NULL, JsonInclude.Include.NON_NULL));
+
+  private TemplateCodec() {
+  }
+
+  /**
+   * @param body TemplateBody or StackPolicyBody of the resource model
+   * @return JSON string of the body
+   */
+  static String toJson(final Map<String, Object> body) {
+    if (body instanceof LazyJsonMap && ((LazyJsonMap) body).json != null) {
+      return ((LazyJsonMap) body).json;
+    }
+    try {
+      return OBJECT_MAPPER.writeValueAsString(body);
+    } catch (final JsonProcessingException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * @param json JSON object returned by CloudFormation
+   * @return Map of the JSON object, parsed on first access
+   * @throws IllegalArgumentException if the body is not a JSON object
+   */
+  static Map<String, Object> fromJson(final String json) {
+    try (final JsonParser parser = OBJECT_MAPPER.getFactory().createParser(json)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new IllegalArgumentException("Body is not a JSON object");
+      }
+      parser.skipChildren();
+      if (parser.nextToken() != null) {
+        throw new IllegalArgumentException("Body has content after the JSON object");
+      }
+    } catch (final IOException e) {
+      throw new IllegalArgumentException("Body is not a valid JSON object", e);
+    }
+    return new LazyJsonMap(json);
+  }
+
+  /**
+   * Map of a JSON object that is only parsed once a field is accessed, it keeps the JSON string until then
+   */
+  @JsonSerialize(using = LazyJsonMapSerializer.class)
+  static final class LazyJsonMap extends AbstractMap<String, Object> {
+
+    private String json;
+
+    private Map<String, Object> map;
+
+    private LazyJsonMap(final String json) {
+      this.json = json;
+    }
+
+    private Map<String, Object> materialize() {
+      if (map == null) {
+        try {
+          map = OBJECT_MAPPER.readValue(json, MAP_TYPE);
+        } catch (final IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }
+      return map;
+    }
+
+    boolean isMaterialized() {
+      return map != null;
+    }
+
+    // Fields handed out may be modified, so the JSON string is no longer trusted afterwards
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+      final Set<Entry<String, Object>> entries = materialize().entrySet();
+      json = null;
+      return entries;
+    }
+
+    @Override
+    public Object get(final Object key) {
+      final Object value = materialize().get(key);
+      json = null;
+      return value;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+      return materialize().containsKey(key);
+    }
+
+    @Override
+    public Object put(final String key, final Object value) {
+      final Object previous = materialize().put(key, value);
+      json = null;
+      return previous;
+    }
+
+    @Override
+    public Object remove(final Object key) {
+      final Object previous = materialize().remove(key);
+      json = null;
+      return previous;
+    }
+  }
+
+  static final class LazyJsonMapSerializer extends StdSerializer<LazyJsonMap> {
+
+    private static final long serialVersionUID = 1L;
+
+    public LazyJsonMapSerializer() {
+      super(LazyJsonMap.class);
+    }
+
+    @Override
+    public void serialize(final LazyJsonMap value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+      if (value.json != null) {
+        gen.writeRawValue(value.json);
+      } else {
+        provider.defaultSerializeValue(value.materialize(), gen);
+      }
+    }
+  }
+}
@@ -1,8 +1,8 @@
 package software.amazon.cloudformation.stack;
 
-import org.json.JSONObject;
 import software.amazon.awssdk.services.cloudformation.model.CreateStackRequest;
 import software.amazon.awssdk.services.cloudformation.model.DeleteStackRequest;
+import software.amazon.awssdk.services.cloudformation.model.DescribeStackEventsRequest;
 import software.amazon.awssdk.services.cloudformation.model.DescribeStacksRequest;
 import software.amazon.awssdk.services.cloudformation.model.GetStackPolicyRequest;
 import software.amazon.awssdk.services.cloudformation.model.GetTemplateRequest;
@@ -10,6 +10,7 @@ import software.amazon.awssdk.services.cloudformation.model.ListStacksRequest;
 
 import software.amazon.awssdk.services.cloudformation.model.ListStacksResponse;
 import software.amazon.awssdk.services.cloudformation.model.Parameter;
+import software.amazon.awssdk.services.cloudformation.model.SetStackPolicyRequest;
 import software.amazon.awssdk.services.cloudformation.model.Stack;
 import software.amazon.awssdk.services.cloudformation.model.StackStatus;
 import software.amazon.awssdk.services.cloudformation.model.Tag;
@@ -48,13 +49,13 @@ public class Translator {
         .capabilitiesWithStrings(model.getCapabilities())
         .disableRollback(model.getDisableRollback())
         .enableTerminationProtection(model.getEnableTerminationProtection());
-    if(model.getTemplateBody() != null && !model.getTemplateBody().toString().isEmpty()) {
-      builder.templateBody(new JSONObject((model.getTemplateBody())).toString());
+    if(model.getTemplateBody() != null) {
+      builder.templateBody(TemplateCodec.toJson(model.getTemplateBody()));
     }else {
       builder.templateURL(model.getTemplateURL());
     }
-    if(model.getStackPolicyBody() != null && !model.getStackPolicyBody().toString().isEmpty()){
-      builder.stackPolicyBody(new JSONObject(model.getStackPolicyBody()).toString());
+    if(model.getStackPolicyBody() != null){
+      builder.stackPolicyBody(TemplateCodec.toJson(model.getStackPolicyBody()));
     }
     else builder.stackPolicyURL(model.getStackPolicyURL());
     return builder.build();
@@ -79,20 +80,6 @@ public class Translator {
    */
   static ResourceModel translateFromReadResponse(final Stack stack) {
     // e.g. https://github.com/aws-cloudformation/aws-cloudformation-resource-providers-logs/blob/2077c92299aeb9a68ae8f4418b5e932b12a8b186/aws-logs-loggroup/src/main/java/com/aws/logs/loggroup/Translator.java#L58-L73
-    final List<software.amazon.cloudformation.stack.Tag> tagsSystemTagsRemoved = stack.tags().stream()
-        .filter(t -> !t.key().startsWith("aws:"))
-        .map(t -> software.amazon.cloudformation.stack.Tag.builder().key(t.key()).value(t.value()).build())
-        .collect(Collectors.toList());
-    final Map<String, String> parameters = stack.parameters().stream()
-        .collect(Collectors.toMap(Parameter::parameterKey, Parameter::parameterValue));
-    final List<software.amazon.cloudformation.stack.Output> outputs = stack.outputs().stream()
-        .map(o -> software.amazon.cloudformation.stack.Output.builder()
-            .outputKey(o.outputKey())
-            .outputValue(o.outputValue())
-            .description(o.description())
-            .exportName(o.exportName())
-            .build())
-        .collect(Collectors.toList());
     return ResourceModel.builder()
         .description(stack.description())
         .creationTime(stack.creationTime().toString())
@@ -104,13 +91,13 @@ public class Translator {
         .stackStatus(stack.stackStatusAsString())
         .stackStatusReason(stack.stackStatusReason()==null? null:stack.stackStatusReason())
         .notificationARNs(stack.notificationARNs().isEmpty() ? null : new ArrayList<>(stack.notificationARNs()))
-        .parameters(parameters.isEmpty()? null : parameters)
+        .parameters(StackProjection.parameters(stack.parameters()))
         .stackName(stack.stackName())
-        .tags(tagsSystemTagsRemoved.isEmpty() ? null : tagsSystemTagsRemoved)
+        .tags(StackProjection.tags(stack.tags()))
         .timeoutInMinutes(stack.timeoutInMinutes())
         .roleARN(stack.roleARN())
         .capabilities(stack.capabilitiesAsStrings().isEmpty() ? null : stack.capabilitiesAsStrings())
-        .outputs(outputs)
+        .outputs(StackProjection.outputs(stack.outputs()))
         .disableRollback(stack.disableRollback())
         .build();
   }
@@ -141,13 +128,13 @@ public class Translator {
         .roleARN(model.getRoleARN())
         .capabilitiesWithStrings(model.getCapabilities())
         .disableRollback(model.getDisableRollback());
-    if(model.getTemplateBody() != null && !model.getTemplateBody().toString().isEmpty()) {
-      builder.templateBody(new JSONObject((model.getTemplateBody())).toString());
+    if(model.getTemplateBody() != null) {
+      builder.templateBody(TemplateCodec.toJson(model.getTemplateBody()));
     }else {
       builder.templateURL(model.getTemplateURL());
     }
-    if(model.getStackPolicyBody() != null && !model.getStackPolicyBody().toString().isEmpty()){
-      builder.stackPolicyBody(new JSONObject(model.getStackPolicyBody()).toString());
+    if(model.getStackPolicyBody() != null){
+      builder.stackPolicyBody(TemplateCodec.toJson(model.getStackPolicyBody()));
     }
     else {
       builder.stackPolicyURL(model.getStackPolicyURL());
@@ -166,7 +153,25 @@ public class Translator {
         .enableTerminationProtection(model.getEnableTerminationProtection()).build();
   }
   /**
-   * Request to list resources
+   * Request to set Stack Policy
+   * @param model resource model
+   * @return awsRequest the aws service request to set the stack policy of a stack
+   */
+  static SetStackPolicyRequest translateToSetStackPolicyRequest(final ResourceModel model) {
+    SetStackPolicyRequest.Builder builder = SetStackPolicyRequest.builder()
+        .stackName(model.getStackId());
+    if(model.getStackPolicyBody() != null){
+      builder.stackPolicyBody(TemplateCodec.toJson(model.getStackPolicyBody()));
+    }
+    else {
+      builder.stackPolicyURL(model.getStackPolicyURL());
+    }
+    return builder.build();
+  }
+
+  /**
+   * Request to list resources. Deleted stacks are filtered out by the caller, since a status filter is an allow-list
+   * that would also leave out stacks in statuses newer than the SDK
    * @param nextToken token passed to the aws service list resources request
    * @return awsRequest the aws service request to list resources within aws account
    */
@@ -177,6 +182,19 @@ public class Translator {
         .build();
   }
 
+  /**
+   * Request to describe the events of a stack, newest first
+   * @param stackId id of the stack
+   * @param nextToken token passed to the aws service describeStackEvents request
+   * @return awsRequest the aws service request to describe stack events
+   */
+  static DescribeStackEventsRequest translateToDescribeStackEventsRequest(final String stackId, final String nextToken) {
+    return DescribeStackEventsRequest.builder()
+        .stackName(stackId)
+        .nextToken(nextToken)
+        .build();
+  }
+
   /**
    * Request to get Stack Policy
    * @param model token passed to the aws service getStackPolicy
@@ -214,6 +232,22 @@ public class Translator {
         .collect(Collectors.toList());
   }
 
+  /**
+   * Translates the stacks of a nested stack tree
+   * @param response List response holding the stacks of the tree
+   * @return List of ResourceModels, each parent followed by its nested stacks
+   */
+  static List<ResourceModel> translateFromListStackTreeResponse(final ListStacksResponse response) {
+    return StackTree.order(response.stackSummaries()).stream()
+        .map(stack -> ResourceModel.builder()
+            .stackId(stack.stackId())
+            .stackName(stack.stackName())
+            .stackStatus(stack.stackStatusAsString())
+            .parentId(stack.parentId())
+            .rootId(stack.rootId()).build())
+        .collect(Collectors.toList());
+  }
+
   static List<Tag> translateToSdkTags(final ResourceModel model) {
     if (model.getTags() == null) {
       return null;
@@ -1,9 +1,10 @@
 package software.amazon.cloudformation.stack;
 
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.cloudformation.CloudFormationClient;
-import software.amazon.awssdk.services.cloudformation.model.DescribeStacksResponse;
+import software.amazon.awssdk.services.cloudformation.model.StackStatus;
+import software.amazon.awssdk.services.cloudformation.model.UpdateStackRequest;
 import software.amazon.awssdk.services.cloudformation.model.UpdateStackResponse;
-import software.amazon.awssdk.services.cloudformation.model.UpdateTerminationProtectionResponse;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -12,8 +13,21 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 
 public class UpdateHandler extends BaseHandlerStd {
+    // UpdateTerminationProtection and SetStackPolicy are issued on these threads while UpdateStack runs on the handler thread
+    private static final ExecutorService UPDATE_EXECUTOR = Executors.newFixedThreadPool(2, runnable -> {
+        final Thread thread = new Thread(runnable, "AWS-CloudFormation-Stack-Update");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -28,40 +42,92 @@ public class UpdateHandler extends BaseHandlerStd {
         ResourceModel previousModel = request.getPreviousResourceState();
 
         logger.log(String.format("[StackId: %s, ClientRequestToken: %s] Calling Update Stack", request.getStackId(), request.getClientRequestToken()));
-        if(model.getEnableTerminationProtection() != null && !model.getEnableTerminationProtection().equals(previousModel.getEnableTerminationProtection()))
-            ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-            .then(progress ->
-                proxy.initiate("AWS-CloudFormation-Stack::UpdateTerminationProtection", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                    .translateToServiceRequest(Translator::translateToUpdateTerminationProtectionRequest)
-                    .makeServiceCall((awsRequest, client) -> {
-                        UpdateTerminationProtectionResponse awsResponse = client.injectCredentialsAndInvokeV2(awsRequest, client.client()::updateTerminationProtection);
-                        logger.log(String.format("TerminationProtection has successfully been updated for stack %s.", progress.getResourceModel().getStackId()));
-                        return awsResponse;
-                    })
-                    .handleError((awsRequest, exception, client, _model, context) -> handleError(awsRequest, exception, client, _model, context))
-                    .progress());
-        return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
+        final boolean updateStack = StackChanges.requiresUpdateStack(previousModel, model,
+            request.getPreviousResourceTags(), request.getDesiredResourceTags());
+        // When the stack is updated its policy goes with UpdateStack, and is only applied once the update is done
+        final boolean setStackPolicy = !updateStack && StackChanges.stackPolicyChanged(previousModel, model);
+        final boolean updateTerminationProtection = StackChanges.terminationProtectionChanged(previousModel, model);
+        if (!updateStack && !setStackPolicy && !updateTerminationProtection) {
+            logger.log(String.format("%s [%s] has no changes to update.", ResourceModel.TYPE_NAME, model.getStackId()));
+            return ProgressEvent.defaultSuccessHandler(model);
+        }
+
+        return ProgressEvent.progress(model, callbackContext)
             .then(progress ->
                 proxy.initiate("AWS-CloudFormation-Stack::Update", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                     .translateToServiceRequest(Translator::translateToUpdateRequest)
                     .makeServiceCall((awsRequest, client) -> {
-                        UpdateStackResponse awsResponse = client.injectCredentialsAndInvokeV2(awsRequest, client.client()::updateStack);
-                        logger.log(String.format("%s has successfully been updated.", ResourceModel.TYPE_NAME));
+                        final List<CompletableFuture<?>> independentCalls =
+                            submitIndependentCalls(client, progress.getResourceModel(), setStackPolicy, updateTerminationProtection);
+                        final UpdateStackResponse awsResponse;
+                        try {
+                            awsResponse = updateStack ? submitUpdateStack(client, awsRequest, progress.getCallbackContext())
+                                : UpdateStackResponse.builder().stackId(progress.getResourceModel().getStackId()).build();
+                        } catch (final RuntimeException e) {
+                            // A failure of the other calls takes precedence, so that it is not hidden by "No updates are to be performed"
+                            joinAll(independentCalls);
+                            throw e;
+                        }
+                        joinAll(independentCalls);
                         return awsResponse;
                     })
-                    .stabilize((awsRequest, awsResponse, client, _model, context) -> stabilizeUpdate(client, awsResponse,_model, logger))
+                    .stabilize((awsRequest, awsResponse, client, _model, context) -> !updateStack || stabilizeUpdate(client, awsResponse, _model, context, logger))
                     .handleError((awsRequest, exception, client, _model, context) -> handleError(awsRequest, exception, client, _model, context))
                     .progress())
 
             .then(progress -> ProgressEvent.defaultSuccessHandler(progress.getResourceModel()));
     }
 
-    private boolean stabilizeUpdate(ProxyClient<CloudFormationClient> proxyClient, Object awsResponse, ResourceModel model, Logger logger) {
-        DescribeStacksResponse describeStacksResponse = proxyClient.injectCredentialsAndInvokeV2(Translator.translateToReadRequest(model), proxyClient.client()::describeStacks);
-        if (describeStacksResponse.stacks().isEmpty()) {
-            throw new CfnNotFoundException(ResourceModel.TYPE_NAME, model.getStackId());
+    private UpdateStackResponse submitUpdateStack(ProxyClient<CloudFormationClient> client, UpdateStackRequest awsRequest, CallbackContext context) {
+        StackEventsStabilizer.start(client, awsRequest.stackName(), context);
+        UpdateStackResponse awsResponse = client.injectCredentialsAndInvokeV2(awsRequest, client.client()::updateStack);
+        logger.log(String.format("%s has successfully been updated.", ResourceModel.TYPE_NAME));
+        return awsResponse;
+    }
+
+    // Calls that do not depend on UpdateStack, they are issued while it is submitted
+    private List<CompletableFuture<?>> submitIndependentCalls(ProxyClient<CloudFormationClient> client, ResourceModel model,
+                                                              boolean setStackPolicy, boolean updateTerminationProtection) {
+        final List<CompletableFuture<?>> calls = new ArrayList<>(2);
+        if (updateTerminationProtection) {
+            calls.add(CompletableFuture.runAsync(() -> {
+                client.injectCredentialsAndInvokeV2(Translator.translateToUpdateTerminationProtectionRequest(model),
+                    client.client()::updateTerminationProtection);
+                logger.log(String.format("TerminationProtection has successfully been updated for stack %s.", model.getStackId()));
+            }, UPDATE_EXECUTOR));
+        }
+        if (setStackPolicy) {
+            calls.add(CompletableFuture.runAsync(() -> {
+                client.injectCredentialsAndInvokeV2(Translator.translateToSetStackPolicyRequest(model), client.client()::setStackPolicy);
+                logger.log(String.format("StackPolicy has successfully been set for stack %s.", model.getStackId()));
+            }, UPDATE_EXECUTOR));
+        }
+        return calls;
+    }
+
+    // Waits for every call before rethrowing the first failure
+    private static void joinAll(List<CompletableFuture<?>> calls) {
+        CompletableFuture.allOf(calls.toArray(new CompletableFuture<?>[0])).handle((result, e) -> result).join();
+        for (final CompletableFuture<?> call : calls) {
+            join(call);
+        }
+    }
+
+    private boolean stabilizeUpdate(ProxyClient<CloudFormationClient> proxyClient, Object awsResponse, ResourceModel model,
+                                    CallbackContext context, Logger logger) {
+        StackStatus stackStatus;
+        try {
+            stackStatus = StackEventsStabilizer.poll(proxyClient, model.getStackId(), context, logger);
+        } catch (final AwsServiceException e) {
+            if (e.getMessage() != null && e.getMessage().contains("does not exist")) {
+                throw new CfnNotFoundException(ResourceModel.TYPE_NAME, model.getStackId());
+            }
+            throw e;
+        }
+        if (stackStatus == null) {
+            return false;
         }
-        switch(describeStacksResponse.stacks().get(0).stackStatus()) {
+        switch(stackStatus) {
             case CREATE_COMPLETE:
             case UPDATE_COMPLETE:
                 //We will assume UPDATE_COMPLETE_CLEANUP_IN_PROGRESS is stabliazed status for now, this will unblock customer if the stack's update is actually done. But there is still some risk that resources have not been removed.
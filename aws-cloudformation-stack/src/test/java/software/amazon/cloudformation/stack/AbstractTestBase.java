@@ -16,6 +16,7 @@ import software.amazon.awssdk.core.pagination.sync.SdkIterable;
 import software.amazon.awssdk.services.cloudformation.CloudFormationClient;
 import software.amazon.awssdk.services.cloudformation.model.Parameter;
 import software.amazon.awssdk.services.cloudformation.model.Stack;
+import software.amazon.awssdk.services.cloudformation.model.StackEvent;
 import software.amazon.awssdk.services.cloudformation.model.StackDriftInformation;
 import software.amazon.awssdk.services.cloudformation.model.StackStatus;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -110,12 +111,49 @@ public class AbstractTestBase {
       .stackStatus("UPDATE_FAILED")
       .build();
 
+  protected static final StackEvent EVENT_CREATE_IN_PROGRESS = stackEvent(StackStatus.CREATE_IN_PROGRESS.toString());
+  protected static final StackEvent EVENT_CREATE_COMPLETE = stackEvent(StackStatus.CREATE_COMPLETE.toString());
+  protected static final StackEvent EVENT_CREATE_FAILED = stackEvent(StackStatus.CREATE_FAILED.toString());
+  protected static final StackEvent EVENT_UPDATE_IN_PROGRESS = stackEvent(StackStatus.UPDATE_IN_PROGRESS.toString());
+  protected static final StackEvent EVENT_UPDATE_COMPLETE = stackEvent(StackStatus.UPDATE_COMPLETE.toString());
+  protected static final StackEvent EVENT_UPDATE_COMPLETE_CLEANUP_IN_PROGRESS = stackEvent(StackStatus.UPDATE_COMPLETE_CLEANUP_IN_PROGRESS.toString());
+  protected static final StackEvent EVENT_UPDATE_FAILED = stackEvent("UPDATE_FAILED");
+  protected static final StackEvent EVENT_DELETE_IN_PROGRESS = stackEvent(StackStatus.DELETE_IN_PROGRESS.toString());
+  protected static final StackEvent EVENT_DELETE_COMPLETE = stackEvent(StackStatus.DELETE_COMPLETE.toString());
+  protected static final StackEvent EVENT_DELETE_FAILED = stackEvent(StackStatus.DELETE_FAILED.toString());
+  protected static final StackEvent EVENT_RESOURCE_CREATE_IN_PROGRESS = StackEvent.builder()
+      .eventId(UUID.randomUUID().toString())
+      .stackId(STACK_ID)
+      .stackName(STACK_NAME)
+      .logicalResourceId("WCH")
+      .resourceType("AWS::CloudFormation::WaitConditionHandle")
+      .resourceStatus("CREATE_IN_PROGRESS")
+      .build();
+  protected static final StackEvent EVENT_RESOURCE_CREATE_COMPLETE = EVENT_RESOURCE_CREATE_IN_PROGRESS.toBuilder()
+      .eventId(UUID.randomUUID().toString())
+      .physicalResourceId("WCH-physical-id")
+      .resourceStatus("CREATE_COMPLETE")
+      .build();
+
   protected static final String NOT_FOUND_ERROR_MESSAGE = String.format("Stack with id %s does not exist (Service: CloudFormation, Status Code: 400, Request ID: %s, Extended Request ID: null)", STACK_ID, UUID.randomUUID());
 
   static {
     MOCK_CREDENTIALS = new Credentials("accessKey", "secretKey", "token");
     logger = new LoggerProxy();
   }
+
+  private static StackEvent stackEvent(final String status) {
+    return StackEvent.builder()
+        .eventId(UUID.randomUUID().toString())
+        .stackId(STACK_ID)
+        .stackName(STACK_NAME)
+        .logicalResourceId(STACK_NAME)
+        .physicalResourceId(STACK_ID)
+        .resourceType("AWS::CloudFormation::Stack")
+        .resourceStatus(status)
+        .build();
+  }
+
   static ProxyClient<CloudFormationClient> MOCK_PROXY(
       final AmazonWebServicesClientProxy proxy,
       final CloudFormationClient sdkClient) {
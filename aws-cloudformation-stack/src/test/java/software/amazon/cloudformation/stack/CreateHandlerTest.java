@@ -10,8 +10,8 @@ import software.amazon.awssdk.services.cloudformation.CloudFormationClient;
 import software.amazon.awssdk.services.cloudformation.model.CloudFormationException;
 import software.amazon.awssdk.services.cloudformation.model.CreateStackRequest;
 import software.amazon.awssdk.services.cloudformation.model.CreateStackResponse;
-import software.amazon.awssdk.services.cloudformation.model.DescribeStacksRequest;
-import software.amazon.awssdk.services.cloudformation.model.DescribeStacksResponse;
+import software.amazon.awssdk.services.cloudformation.model.DescribeStackEventsRequest;
+import software.amazon.awssdk.services.cloudformation.model.DescribeStackEventsResponse;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -65,13 +65,13 @@ public class CreateHandlerTest extends AbstractTestBase {
         // Mocks
         when(proxyClient.client().createStack(any(CreateStackRequest.class)))
             .thenReturn(CreateStackResponse.builder().stackId(STACK_ID).build());
-        when(proxyClient.client().describeStacks(any(DescribeStacksRequest.class)))
+        when(proxyClient.client().describeStackEvents(any(DescribeStackEventsRequest.class)))
             .thenThrow(CloudFormationException.builder().message(NOT_FOUND_ERROR_MESSAGE).build())
-            .thenReturn(DescribeStacksResponse.builder()
-                .stacks(ImmutableList.of(STACK_CREATE_IN_PROGRESS))
+            .thenReturn(DescribeStackEventsResponse.builder()
+                .stackEvents(ImmutableList.of(EVENT_RESOURCE_CREATE_IN_PROGRESS, EVENT_CREATE_IN_PROGRESS))
                 .build())
-            .thenReturn(DescribeStacksResponse.builder()
-                .stacks(ImmutableList.of(STACK_CREATE_COMPLETE))
+            .thenReturn(DescribeStackEventsResponse.builder()
+                .stackEvents(ImmutableList.of(EVENT_CREATE_COMPLETE, EVENT_RESOURCE_CREATE_COMPLETE, EVENT_RESOURCE_CREATE_IN_PROGRESS, EVENT_CREATE_IN_PROGRESS))
                 .build());
 
         final CreateHandler handler = new CreateHandler();
@@ -88,9 +88,12 @@ public class CreateHandlerTest extends AbstractTestBase {
             .desiredResourceTags(ImmutableMap.of("key", "value"))
             .build();
 
-        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+        final CallbackContext context = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, context, proxyClient, logger);
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(context.getStackEventsCursor()).isEqualTo(EVENT_CREATE_COMPLETE.eventId());
+        assertThat(context.getResourcesDone()).isEqualTo(1);
         assertThat(response.getResourceModel()).isEqualToIgnoringGivenFields(request.getDesiredResourceState(),
             "templateURL", "tags", "outputs","driftInformation", "parentId", "rootId", "stackStatus", "stackStatusReason", "creationTime", "parameters");
         assertThat(response.getMessage()).isNull();
@@ -107,13 +110,13 @@ public class CreateHandlerTest extends AbstractTestBase {
         // Mocks
         when(proxyClient.client().createStack(any(CreateStackRequest.class)))
             .thenReturn(CreateStackResponse.builder().stackId(STACK_ID).build());
-        when(proxyClient.client().describeStacks(any(DescribeStacksRequest.class)))
+        when(proxyClient.client().describeStackEvents(any(DescribeStackEventsRequest.class)))
             .thenThrow(CloudFormationException.builder().message(NOT_FOUND_ERROR_MESSAGE).build())
-            .thenReturn(DescribeStacksResponse.builder()
-                .stacks(ImmutableList.of(STACK_CREATE_IN_PROGRESS))
+            .thenReturn(DescribeStackEventsResponse.builder()
+                .stackEvents(ImmutableList.of(EVENT_CREATE_IN_PROGRESS))
                 .build())
-            .thenReturn(DescribeStacksResponse.builder()
-                .stacks(ImmutableList.of(STACK_CREATE_COMPLETE))
+            .thenReturn(DescribeStackEventsResponse.builder()
+                .stackEvents(ImmutableList.of(EVENT_CREATE_COMPLETE, EVENT_CREATE_IN_PROGRESS))
                 .build());
 
         final CreateHandler handler = new CreateHandler();
@@ -147,9 +150,9 @@ public class CreateHandlerTest extends AbstractTestBase {
         // Mocks
         when(proxyClient.client().createStack(any(CreateStackRequest.class)))
             .thenReturn(CreateStackResponse.builder().stackId(STACK_ID).build());
-        when(proxyClient.client().describeStacks(any(DescribeStacksRequest.class)))
-            .thenReturn(DescribeStacksResponse.builder()
-                .stacks(ImmutableList.of(STACK_CREATE_COMPLETE))
+        when(proxyClient.client().describeStackEvents(any(DescribeStackEventsRequest.class)))
+            .thenReturn(DescribeStackEventsResponse.builder()
+                .stackEvents(ImmutableList.of(EVENT_CREATE_COMPLETE, EVENT_CREATE_IN_PROGRESS))
                 .build());
 
         final CreateHandler handler = new CreateHandler();
@@ -179,7 +182,7 @@ public class CreateHandlerTest extends AbstractTestBase {
         // Mocks
         when(proxyClient.client().createStack(any(CreateStackRequest.class)))
             .thenReturn(CreateStackResponse.builder().stackId(STACK_ID).build());
-        when(proxyClient.client().describeStacks(any(DescribeStacksRequest.class)))
+        when(proxyClient.client().describeStackEvents(any(DescribeStackEventsRequest.class)))
             .thenThrow(CloudFormationException.builder().message("service error").build());
 
         final CreateHandler handler = new CreateHandler();
@@ -233,17 +236,17 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
     }
     @Test
-    public void describestack_return_empty_stack_then_return_complete_shoud_be_success() {
+    public void describestackevents_return_no_event_then_return_complete_shoud_be_success() {
         // Mocks
         when(proxyClient.client().createStack(any(CreateStackRequest.class)))
             .thenReturn(CreateStackResponse.builder().stackId(STACK_ID).build());
-        when(proxyClient.client().describeStacks(any(DescribeStacksRequest.class)))
-            .thenReturn(DescribeStacksResponse.builder().stacks(ImmutableList.of()).build())
-            .thenReturn(DescribeStacksResponse.builder()
-                .stacks(ImmutableList.of(STACK_CREATE_IN_PROGRESS))
+        when(proxyClient.client().describeStackEvents(any(DescribeStackEventsRequest.class)))
+            .thenReturn(DescribeStackEventsResponse.builder().stackEvents(ImmutableList.of()).build())
+            .thenReturn(DescribeStackEventsResponse.builder()
+                .stackEvents(ImmutableList.of(EVENT_CREATE_IN_PROGRESS))
                 .build())
-            .thenReturn(DescribeStacksResponse.builder()
-                .stacks(ImmutableList.of(STACK_CREATE_COMPLETE))
+            .thenReturn(DescribeStackEventsResponse.builder()
+                .stackEvents(ImmutableList.of(EVENT_CREATE_COMPLETE, EVENT_CREATE_IN_PROGRESS))
                 .build());
 
         final CreateHandler handler = new CreateHandler();
@@ -273,12 +276,12 @@ public class CreateHandlerTest extends AbstractTestBase {
     }
 
     @Test
-    public void rollbackcomplete_DescribeStackThrowsCfnNotStabilizedException() {
+    public void rollbackcomplete_DescribeStackEventsThrowsCfnNotStabilizedException() {
         // Mocks
         when(proxyClient.client().createStack(any(CreateStackRequest.class)))
             .thenReturn(CreateStackResponse.builder().stackId(STACK_ID).build());
-        when(proxyClient.client().describeStacks(any(DescribeStacksRequest.class)))
-            .thenReturn(DescribeStacksResponse.builder().stacks(ImmutableList.of(STACK_CREATE_FAILED)).build());
+        when(proxyClient.client().describeStackEvents(any(DescribeStackEventsRequest.class)))
+            .thenReturn(DescribeStackEventsResponse.builder().stackEvents(ImmutableList.of(EVENT_CREATE_FAILED, EVENT_CREATE_IN_PROGRESS)).build());
 
         final CreateHandler handler = new CreateHandler();
 
@@ -9,6 +9,8 @@ import software.amazon.awssdk.services.cloudformation.CloudFormationClient;;
 import software.amazon.awssdk.services.cloudformation.model.CloudFormationException;
 import software.amazon.awssdk.services.cloudformation.model.DeleteStackRequest;
 import software.amazon.awssdk.services.cloudformation.model.DeleteStackResponse;
+import software.amazon.awssdk.services.cloudformation.model.DescribeStackEventsRequest;
+import software.amazon.awssdk.services.cloudformation.model.DescribeStackEventsResponse;
 import software.amazon.awssdk.services.cloudformation.model.DescribeStacksRequest;
 import software.amazon.awssdk.services.cloudformation.model.DescribeStacksResponse;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
@@ -66,9 +68,13 @@ public class DeleteHandlerTest extends AbstractTestBase {
         when(proxyClient.client().describeStacks(any(DescribeStacksRequest.class)))
             .thenReturn(DescribeStacksResponse.builder()
                 .stacks(ImmutableList.of(STACK_CREATE_COMPLETE))
+                .build());
+        when(proxyClient.client().describeStackEvents(any(DescribeStackEventsRequest.class)))
+            .thenReturn(DescribeStackEventsResponse.builder()
+                .stackEvents(ImmutableList.of(EVENT_CREATE_COMPLETE))
                 .build())
-            .thenReturn(DescribeStacksResponse.builder()
-                .stacks(ImmutableList.of(STACK_DELETE_IN_PROGRESS))
+            .thenReturn(DescribeStackEventsResponse.builder()
+                .stackEvents(ImmutableList.of(EVENT_DELETE_IN_PROGRESS, EVENT_CREATE_COMPLETE))
                 .build())
             .thenThrow(CloudFormationException.builder().message(NOT_FOUND_ERROR_MESSAGE).build());
 
@@ -116,9 +122,13 @@ public class DeleteHandlerTest extends AbstractTestBase {
         when(proxyClient.client().describeStacks(any(DescribeStacksRequest.class)))
             .thenReturn(DescribeStacksResponse.builder()
                 .stacks(ImmutableList.of(STACK_DELETE_IN_PROGRESS))
+                .build());
+        when(proxyClient.client().describeStackEvents(any(DescribeStackEventsRequest.class)))
+            .thenReturn(DescribeStackEventsResponse.builder()
+                .stackEvents(ImmutableList.of(EVENT_DELETE_IN_PROGRESS))
                 .build())
-            .thenReturn(DescribeStacksResponse.builder()
-                .stacks(ImmutableList.of(STACK_DELETE_COMPLETE))
+            .thenReturn(DescribeStackEventsResponse.builder()
+                .stackEvents(ImmutableList.of(EVENT_DELETE_COMPLETE, EVENT_DELETE_IN_PROGRESS))
                 .build());
 
         final DeleteHandler handler = new DeleteHandler();
@@ -150,9 +160,13 @@ public class DeleteHandlerTest extends AbstractTestBase {
         when(proxyClient.client().describeStacks(any(DescribeStacksRequest.class)))
             .thenReturn(DescribeStacksResponse.builder()
                 .stacks(ImmutableList.of(STACK_CREATE_COMPLETE))
+                .build());
+        when(proxyClient.client().describeStackEvents(any(DescribeStackEventsRequest.class)))
+            .thenReturn(DescribeStackEventsResponse.builder()
+                .stackEvents(ImmutableList.of(EVENT_CREATE_COMPLETE))
                 .build())
-            .thenReturn(DescribeStacksResponse.builder()
-                .stacks(ImmutableList.of(STACK_DELETE_FAILED))
+            .thenReturn(DescribeStackEventsResponse.builder()
+                .stackEvents(ImmutableList.of(EVENT_DELETE_FAILED, EVENT_DELETE_IN_PROGRESS, EVENT_CREATE_COMPLETE))
                 .build());
 
         final DeleteHandler handler = new DeleteHandler();
@@ -171,16 +185,23 @@ public class DeleteHandlerTest extends AbstractTestBase {
     }
 
     @Test
-    public void describeStacksResponseIsEmpty_HandlerReturnsSuccess() {
+    public void describeStackEventsResponseIsEmpty_HandlerKeepsPolling() {
         // Mocks
         when(proxyClient.client().deleteStack(any(DeleteStackRequest.class)))
             .thenReturn(DeleteStackResponse.builder().build());
         when(proxyClient.client().describeStacks(any(DescribeStacksRequest.class)))
             .thenReturn(DescribeStacksResponse.builder()
                 .stacks(ImmutableList.of(STACK_CREATE_COMPLETE))
+                .build());
+        when(proxyClient.client().describeStackEvents(any(DescribeStackEventsRequest.class)))
+            .thenReturn(DescribeStackEventsResponse.builder()
+                .stackEvents(ImmutableList.of())
                 .build())
-            .thenReturn(DescribeStacksResponse.builder()
-                .stacks(ImmutableList.of())
+            .thenReturn(DescribeStackEventsResponse.builder()
+                .stackEvents(ImmutableList.of())
+                .build())
+            .thenReturn(DescribeStackEventsResponse.builder()
+                .stackEvents(ImmutableList.of(EVENT_DELETE_COMPLETE, EVENT_DELETE_IN_PROGRESS))
                 .build());
 
         final DeleteHandler handler = new DeleteHandler();
@@ -213,9 +234,10 @@ public class DeleteHandlerTest extends AbstractTestBase {
         when(proxyClient.client().describeStacks(any(DescribeStacksRequest.class)))
             .thenReturn(DescribeStacksResponse.builder()
                 .stacks(ImmutableList.of(STACK_CREATE_COMPLETE))
-                .build())
-            .thenReturn(DescribeStacksResponse.builder()
-                .stacks(ImmutableList.of())
+                .build());
+        when(proxyClient.client().describeStackEvents(any(DescribeStackEventsRequest.class)))
+            .thenReturn(DescribeStackEventsResponse.builder()
+                .stackEvents(ImmutableList.of(EVENT_CREATE_COMPLETE))
                 .build());
         final DeleteHandler handler = new DeleteHandler();
 
@@ -17,11 +17,17 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.when;
 import static software.amazon.cloudformation.stack.AbstractTestBase.STACK_ID;
 
@@ -78,7 +84,9 @@ public class ListHandlerTest extends AbstractTestBase{
         when(proxyClient.client().listStacks(any(ListStacksRequest.class)))
             .thenReturn(ListStacksResponse.builder().stackSummaries(
                 StackSummary.builder().stackId(STACK_ID).stackStatus(StackStatus.CREATE_COMPLETE).build(),
-                StackSummary.builder().stackId(STACK_ID).stackStatus(StackStatus.DELETE_COMPLETE).build()).build());
+                StackSummary.builder().stackId(STACK_ID).stackStatus(StackStatus.DELETE_COMPLETE).build(),
+                // A status newer than the SDK is still a live stack
+                StackSummary.builder().stackId(STACK_ID).stackStatus("NEW_STATUS_COMPLETE").build()).build());
 
         final ListHandler handler = new ListHandler();
 
@@ -100,6 +108,101 @@ public class ListHandlerTest extends AbstractTestBase{
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
 
-        assertThat(response.getResourceModels().size()).isEqualTo(1);
+        assertThat(response.getResourceModels().size()).isEqualTo(2);
+    }
+
+    @Test
+    public void pagesAreFilledUpToPageSize() {
+        final List<StackSummary> fullPage = new ArrayList<>();
+        for (int i = 0; i < ListHandler.LIST_PAGE_SIZE; i++) {
+            fullPage.add(StackSummary.builder().stackId(STACK_ID + i).stackStatus(StackStatus.CREATE_COMPLETE).build());
+        }
+        // Mocks
+        when(proxyClient.client().listStacks(any(ListStacksRequest.class)))
+            .thenReturn(ListStacksResponse.builder().stackSummaries(
+                StackSummary.builder().stackId(STACK_ID).stackStatus(StackStatus.UPDATE_COMPLETE).build())
+                .nextToken("page2").build())
+            .thenReturn(ListStacksResponse.builder().stackSummaries(fullPage).nextToken("page3").build());
+
+        final ListHandler handler = new ListHandler();
+
+        final ResourceModel model = ResourceModel.builder().build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).hasSize(ListHandler.LIST_PAGE_SIZE + 1);
+        assertThat(response.getNextToken()).isEqualTo("page3");
+        verify(sdkClient).listStacks(argThat((ListStacksRequest rq) -> rq.nextToken() == null
+            && !rq.hasStackStatusFilters()));
+        verify(sdkClient).listStacks(argThat((ListStacksRequest rq) -> "page2".equals(rq.nextToken())
+            && !rq.hasStackStatusFilters()));
+    }
+
+    @Test
+    public void stackTree_ParentsBeforeNestedStacks() {
+        final String rootId = STACK_ID;
+        final String childId = "arn:aws:cloudformation:us-east-1:123456789012:stack/child/1";
+        final String grandChildId = "arn:aws:cloudformation:us-east-1:123456789012:stack/grandchild/2";
+        // Mocks
+        when(proxyClient.client().listStacks(any(ListStacksRequest.class)))
+            .thenReturn(ListStacksResponse.builder().stackSummaries(
+                StackSummary.builder().stackId(grandChildId).parentId(childId).rootId(rootId).stackStatus(StackStatus.CREATE_COMPLETE).build(),
+                StackSummary.builder().stackId("other").stackStatus(StackStatus.CREATE_COMPLETE).build())
+                .nextToken("page2").build())
+            .thenReturn(ListStacksResponse.builder().stackSummaries(
+                StackSummary.builder().stackId(rootId).stackStatus(StackStatus.CREATE_COMPLETE).build(),
+                StackSummary.builder().stackId(childId).parentId(rootId).rootId(rootId).stackStatus(StackStatus.CREATE_COMPLETE).build())
+                .build());
+
+        final ListHandler handler = new ListHandler();
+
+        final ResourceModel model = ResourceModel.builder().rootId(rootId).build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getNextToken()).isNull();
+        assertThat(response.getResourceModels().stream().map(ResourceModel::getStackId).collect(Collectors.toList()))
+            .containsExactly(rootId, childId, grandChildId);
+        verify(sdkClient, times(2)).listStacks(argThat((ListStacksRequest rq) ->
+            !rq.hasStackStatusFilters()));
+    }
+
+    @Test
+    public void stackTree_ResumesWithNextToken() {
+        // Mocks
+        when(proxyClient.client().listStacks(any(ListStacksRequest.class)))
+            .thenReturn(ListStacksResponse.builder().stackSummaries(
+                StackSummary.builder().stackId("other").stackStatus(StackStatus.CREATE_COMPLETE).build())
+                .nextToken("next").build());
+
+        final ListHandler handler = new ListHandler();
+
+        final ResourceModel model = ResourceModel.builder().rootId(STACK_ID).build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .nextToken("previous")
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getNextToken()).isEqualTo("next");
+        assertThat(response.getResourceModels()).isEmpty();
+        verify(sdkClient, times(ListHandler.LIST_PAGES_PER_REQUEST)).listStacks(any(ListStacksRequest.class));
     }
 }
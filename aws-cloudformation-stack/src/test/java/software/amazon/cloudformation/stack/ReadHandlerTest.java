@@ -232,4 +232,33 @@ public class ReadHandlerTest extends AbstractTestBase {
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
 
     }
+
+    @Test
+    public void getTemplateServiceExceptionThrown_HandlerFails() {
+        // Mocks
+        when(proxyClient.client().getTemplate(any(GetTemplateRequest.class)))
+            .thenThrow(AwsServiceException.builder().message("service error").build());
+        when(proxyClient.client().getStackPolicy(any(GetStackPolicyRequest.class)))
+            .thenReturn(GetStackPolicyResponse.builder()
+                .stackPolicyBody(STACK_POLICY_BODY)
+                .build());
+        when(proxyClient.client().describeStacks(any(DescribeStacksRequest.class)))
+            .thenReturn(DescribeStacksResponse.builder()
+                .stacks(ImmutableList.of(STACK_CREATE_COMPLETE))
+                .build());
+
+        final ReadHandler handler = new ReadHandler();
+
+        final ResourceModel model = ResourceModel.builder()
+            .stackId(STACK_ID)
+            .stackName(STACK_NAME)
+            .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+    }
 }
@@ -0,0 +1,141 @@
+package software.amazon.cloudformation.stack;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StackChangesTest extends AbstractTestBase {
+
+    private static ResourceModel.ResourceModelBuilder stack() {
+        return ResourceModel.builder()
+            .stackId(STACK_ID)
+            .stackName(STACK_NAME)
+            .templateBody(new JSONObject(TEMPLATE_BODY).toMap())
+            .parameters(ImmutableMap.of("Key", "Value"))
+            .tags(ImmutableList.of(
+                Tag.builder().key("a").value("1").build(),
+                Tag.builder().key("b").value("2").build()))
+            .notificationARNs(ImmutableList.of("arn:aws:sns:us-east-1:123456789012:a", "arn:aws:sns:us-east-1:123456789012:b"))
+            .capabilities(ImmutableList.of("CAPABILITY_IAM", "CAPABILITY_NAMED_IAM"))
+            .roleARN("arn:aws:iam::123456789012:role/role");
+    }
+
+    private static boolean requiresUpdateStack(final ResourceModel previous, final ResourceModel desired) {
+        return StackChanges.requiresUpdateStack(previous, desired, null, null);
+    }
+
+    @Test
+    public void sameModel_RequiresNoUpdate() {
+        assertThat(requiresUpdateStack(stack().build(), stack().build())).isFalse();
+        assertThat(StackChanges.stackPolicyChanged(stack().build(), stack().build())).isFalse();
+        assertThat(StackChanges.terminationProtectionChanged(stack().build(), stack().build())).isFalse();
+    }
+
+    @Test
+    public void canonicalForm_IgnoresOrderAndRepresentation() {
+        final Map<String, Object> template = new LinkedHashMap<>();
+        template.put("Resources", Collections.singletonMap("Bucket", ImmutableMap.of(
+            "Type", "AWS::S3::Bucket",
+            "Properties", Collections.singletonMap("Size", 1.0))));
+        template.put("Description", null);
+        final Map<String, Object> reordered = new LinkedHashMap<>();
+        reordered.put("Resources", Collections.singletonMap("Bucket", ImmutableMap.of(
+            "Properties", Collections.singletonMap("Size", 1L),
+            "Type", "AWS::S3::Bucket")));
+
+        final ResourceModel previous = stack().templateBody(template).build();
+        final ResourceModel desired = stack()
+            .templateBody(reordered)
+            .tags(ImmutableList.of(
+                Tag.builder().key("b").value("2").build(),
+                Tag.builder().key("a").value("1").build()))
+            .notificationARNs(ImmutableList.of("arn:aws:sns:us-east-1:123456789012:b", "arn:aws:sns:us-east-1:123456789012:a"))
+            .capabilities(ImmutableList.of("CAPABILITY_NAMED_IAM", "CAPABILITY_IAM"))
+            .build();
+
+        assertThat(requiresUpdateStack(previous, desired)).isFalse();
+        assertThat(requiresUpdateStack(stack().parameters(null).tags(null).build(),
+            stack().parameters(Collections.emptyMap()).tags(Collections.emptyList()).build())).isFalse();
+    }
+
+    @Test
+    public void changes_RequireUpdate() {
+        final Map<String, Object> template = new JSONObject(TEMPLATE_BODY).toMap();
+        template.put("Description", "changed");
+
+        assertThat(requiresUpdateStack(stack().build(), stack().templateBody(template).build())).isTrue();
+        assertThat(requiresUpdateStack(stack().build(), stack().parameters(ImmutableMap.of("Key", "Other")).build())).isTrue();
+        assertThat(requiresUpdateStack(stack().build(),
+            stack().tags(ImmutableList.of(Tag.builder().key("a").value("2").build())).build())).isTrue();
+        assertThat(requiresUpdateStack(stack().build(), stack().capabilities(ImmutableList.of("CAPABILITY_IAM")).build())).isTrue();
+        assertThat(requiresUpdateStack(stack().build(), stack().roleARN(null).build())).isTrue();
+        assertThat(requiresUpdateStack(stack().build(), stack().templateURL(TEMPLATE_URL).build())).isTrue();
+        assertThat(requiresUpdateStack(null, stack().build())).isTrue();
+        // A string is not the number it spells
+        assertThat(requiresUpdateStack(
+            stack().templateBody(Collections.singletonMap("Size", 1)).build(),
+            stack().templateBody(Collections.singletonMap("Size", "1")).build())).isTrue();
+    }
+
+    @Test
+    public void dynamicReferences_RequireUpdate() {
+        final Map<String, Object> template = new JSONObject(TEMPLATE_BODY).toMap();
+        template.put("Description", "{{resolve:ssm:/stack/description}}");
+        final ResourceModel withTemplateReference = stack().templateBody(template).build();
+        final ResourceModel withParameterReference = stack().parameters(ImmutableMap.of("Key", "{{resolve:ssm:/stack/key}}")).build();
+
+        assertThat(requiresUpdateStack(withTemplateReference, stack().templateBody(template).build())).isTrue();
+        assertThat(requiresUpdateStack(withParameterReference,
+            stack().parameters(ImmutableMap.of("Key", "{{resolve:ssm:/stack/key}}")).build())).isTrue();
+    }
+
+    @Test
+    public void templatesResolvedOnUpdate_RequireUpdate() {
+        final Map<String, Object> ssmParameter = new JSONObject(TEMPLATE_BODY).toMap();
+        ssmParameter.put("Parameters", ImmutableMap.of("Ami",
+            ImmutableMap.of("Type", "AWS::SSM::Parameter::Value<AWS::EC2::Image::Id>")));
+        final Map<String, Object> nestedStack = new JSONObject(TEMPLATE_BODY).toMap();
+        nestedStack.put("Resources", ImmutableMap.of("Nested", ImmutableMap.of(
+            "Type", "AWS::CloudFormation::Stack",
+            "Properties", ImmutableMap.of("TemplateURL", TEMPLATE_URL))));
+        final Map<String, Object> transform = new JSONObject(TEMPLATE_BODY).toMap();
+        transform.put("Transform", "AWS::Serverless-2016-10-31");
+        final Map<String, Object> include = new JSONObject(TEMPLATE_BODY).toMap();
+        include.put("Resources", ImmutableMap.of("Fn::Transform", ImmutableMap.of(
+            "Name", "AWS::Include",
+            "Parameters", ImmutableMap.of("Location", TEMPLATE_URL))));
+
+        for (final Map<String, Object> template : ImmutableList.of(ssmParameter, nestedStack, transform, include)) {
+            assertThat(requiresUpdateStack(stack().templateBody(template).build(), stack().templateBody(template).build())).isTrue();
+        }
+    }
+
+    @Test
+    public void resourceTags_RequireUpdateWhenChanged() {
+        assertThat(StackChanges.requiresUpdateStack(stack().build(), stack().build(),
+            ImmutableMap.of("team", "a"), ImmutableMap.of("team", "a"))).isFalse();
+        assertThat(StackChanges.requiresUpdateStack(stack().build(), stack().build(),
+            null, Collections.emptyMap())).isFalse();
+        assertThat(StackChanges.requiresUpdateStack(stack().build(), stack().build(),
+            ImmutableMap.of("team", "a"), ImmutableMap.of("team", "b"))).isTrue();
+        assertThat(StackChanges.requiresUpdateStack(stack().build(), stack().build(),
+            null, ImmutableMap.of("team", "a"))).isTrue();
+    }
+
+    @Test
+    public void stackPolicy_ChangedOnlyWhenReplaced() {
+        final ResourceModel withPolicy = stack().stackPolicyBody(new JSONObject(STACK_POLICY_BODY).toMap()).build();
+
+        assertThat(StackChanges.stackPolicyChanged(stack().build(), withPolicy)).isTrue();
+        assertThat(StackChanges.stackPolicyChanged(withPolicy, stack().stackPolicyBody(new JSONObject(STACK_POLICY_BODY).toMap()).build())).isFalse();
+        assertThat(StackChanges.stackPolicyChanged(withPolicy, stack().build())).isFalse();
+        assertThat(StackChanges.stackPolicyChanged(withPolicy, stack().stackPolicyURL(TEMPLATE_URL).build())).isTrue();
+    }
+}
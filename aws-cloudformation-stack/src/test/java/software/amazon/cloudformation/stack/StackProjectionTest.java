@@ -0,0 +1,97 @@
+package software.amazon.cloudformation.stack;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.cloudformation.model.Parameter;
+import software.amazon.awssdk.services.cloudformation.model.Stack;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StackProjectionTest extends AbstractTestBase {
+
+    private static Stack largeStack() {
+        // 200 outputs and 50 tags, a fifth of them system tags
+        final List<software.amazon.awssdk.services.cloudformation.model.Output> outputs = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            outputs.add(software.amazon.awssdk.services.cloudformation.model.Output.builder()
+                .outputKey("Output" + i)
+                .outputValue("value-" + i)
+                .description("output " + i)
+                .exportName(i % 2 == 0 ? "export-" + i : null)
+                .build());
+        }
+        final List<software.amazon.awssdk.services.cloudformation.model.Tag> tags = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            tags.add(software.amazon.awssdk.services.cloudformation.model.Tag.builder()
+                .key(i % 5 == 0 ? "aws:tag" + i : "tag" + i)
+                .value("value-" + i)
+                .build());
+        }
+        final List<Parameter> parameters = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            parameters.add(Parameter.builder().parameterKey("Parameter" + i).parameterValue("value-" + i).build());
+        }
+        return Stack.builder()
+            .stackId(STACK_ID)
+            .stackName(STACK_NAME)
+            .creationTime(Instant.now())
+            .stackStatus("CREATE_COMPLETE")
+            .outputs(outputs)
+            .tags(tags)
+            .parameters(parameters)
+            .build();
+    }
+
+    @Test
+    public void translateFromReadResponse_MatchesStreamPipeline() {
+        final Stack stack = largeStack();
+
+        final ResourceModel model = Translator.translateFromReadResponse(stack);
+
+        // The stream pipeline the projection replaces
+        final List<Tag> tags = stack.tags().stream()
+            .filter(t -> !t.key().startsWith("aws:"))
+            .map(t -> Tag.builder().key(t.key()).value(t.value()).build())
+            .collect(Collectors.toList());
+        final Map<String, String> parameters = stack.parameters().stream()
+            .collect(Collectors.toMap(Parameter::parameterKey, Parameter::parameterValue));
+        final List<Output> outputs = stack.outputs().stream()
+            .map(o -> Output.builder()
+                .outputKey(o.outputKey())
+                .outputValue(o.outputValue())
+                .description(o.description())
+                .exportName(o.exportName())
+                .build())
+            .collect(Collectors.toList());
+
+        assertThat(model.getTags()).hasSize(40).isEqualTo(tags);
+        assertThat(model.getParameters()).isEqualTo(parameters);
+        assertThat(model.getOutputs()).hasSize(200).isEqualTo(outputs);
+    }
+
+    @Test
+    public void outputs_ModifiableList() {
+        final Stack stack = largeStack();
+
+        final List<Output> outputs = StackProjection.outputs(stack.outputs());
+
+        assertThat(outputs).hasSize(200);
+        assertThat(outputs.get(10).getOutputKey()).isEqualTo("Output10");
+        outputs.add(Output.builder().outputKey("Extra").build());
+        assertThat(outputs).hasSize(201);
+    }
+
+    @Test
+    public void emptyStack_ProjectsToNull() {
+        final Stack stack = Stack.builder().build();
+
+        assertThat(StackProjection.tags(stack.tags())).isNull();
+        assertThat(StackProjection.parameters(stack.parameters())).isNull();
+        assertThat(StackProjection.outputs(stack.outputs())).isEmpty();
+    }
+}
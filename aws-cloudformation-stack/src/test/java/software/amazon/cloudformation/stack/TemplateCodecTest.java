@@ -0,0 +1,67 @@
+package software.amazon.cloudformation.stack;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TemplateCodecTest extends AbstractTestBase {
+
+    private static String largeTemplateBody() {
+        // Around 1MB of resources, as returned by GetTemplate
+        final StringBuilder templateBody = new StringBuilder("{\"Resources\":{");
+        for (int i = 0; i < 10000; i++) {
+            if (i > 0) templateBody.append(',');
+            templateBody.append(String.format("\"Topic%d\":{\"Type\":\"AWS::SNS::Topic\",\"Properties\":{\"TopicName\":\"topic-%d\","
+                + "\"Tags\":[{\"Key\":\"index\",\"Value\":\"%d\"}],\"FifoTopic\":false}}", i, i, i));
+        }
+        return templateBody.append("}}").toString();
+    }
+
+    @Test
+    public void fromJson_PassesThroughUntouched() throws Exception {
+        final String templateBody = largeTemplateBody();
+
+        final Map<String, Object> body = TemplateCodec.fromJson(templateBody);
+        final String response = new ObjectMapper().writeValueAsString(Collections.singletonMap("TemplateBody", body));
+
+        assertThat(((TemplateCodec.LazyJsonMap) body).isMaterialized()).isFalse();
+        assertThat(TemplateCodec.toJson(body)).isSameAs(templateBody);
+        assertThat(response).isEqualTo("{\"TemplateBody\":" + templateBody + "}");
+    }
+
+    @Test
+    public void fromJson_MaterializedOnAccess() {
+        final Map<String, Object> body = TemplateCodec.fromJson(TEMPLATE_BODY);
+
+        assertThat(body).isEqualTo(new JSONObject(TEMPLATE_BODY).toMap());
+        assertThat(((TemplateCodec.LazyJsonMap) body).isMaterialized()).isTrue();
+
+        body.put("Description", "updated");
+        assertThat(new JSONObject(TemplateCodec.toJson(body)).toMap()).containsEntry("Description", "updated");
+    }
+
+    @Test
+    public void toJson_MatchesJSONObject() {
+        final Map<String, Object> body = new JSONObject(largeTemplateBody()).toMap();
+        body.put("Description", null);
+
+        assertThat(new JSONObject(TemplateCodec.toJson(body)).toMap())
+            .isEqualTo(new JSONObject(new JSONObject(body).toString()).toMap());
+        assertThat(TemplateCodec.toJson(new LinkedHashMap<>())).isEqualTo("{}");
+    }
+
+    @Test
+    public void fromJson_InvalidBody() {
+        assertThatThrownBy(() -> TemplateCodec.fromJson("Resources: {}")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TemplateCodec.fromJson("[]")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TemplateCodec.fromJson("{\"Resources\":")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TemplateCodec.fromJson("{} {}")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -7,8 +7,10 @@ import org.json.JSONObject;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.cloudformation.CloudFormationClient;;
 import software.amazon.awssdk.services.cloudformation.model.CloudFormationException;
-import software.amazon.awssdk.services.cloudformation.model.DescribeStacksRequest;
-import software.amazon.awssdk.services.cloudformation.model.DescribeStacksResponse;
+import software.amazon.awssdk.services.cloudformation.model.DescribeStackEventsRequest;
+import software.amazon.awssdk.services.cloudformation.model.DescribeStackEventsResponse;
+import software.amazon.awssdk.services.cloudformation.model.SetStackPolicyRequest;
+import software.amazon.awssdk.services.cloudformation.model.SetStackPolicyResponse;
 import software.amazon.awssdk.services.cloudformation.model.UpdateStackRequest;
 import software.amazon.awssdk.services.cloudformation.model.UpdateStackResponse;
 import software.amazon.awssdk.services.cloudformation.model.UpdateTerminationProtectionRequest;
@@ -31,6 +33,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.ArgumentMatchers.any;
@@ -67,15 +70,15 @@ public class UpdateHandlerTest extends AbstractTestBase {
             .thenReturn(UpdateTerminationProtectionResponse.builder().stackId(STACK_ID).build());
         when(proxyClient.client().updateStack(any(UpdateStackRequest.class)))
             .thenReturn(UpdateStackResponse.builder().stackId(STACK_ID).build());
-        when(proxyClient.client().describeStacks(any(DescribeStacksRequest.class)))
-            .thenReturn(DescribeStacksResponse.builder()
-                .stacks(ImmutableList.of(STACK_CREATE_COMPLETE))
+        when(proxyClient.client().describeStackEvents(any(DescribeStackEventsRequest.class)))
+            .thenReturn(DescribeStackEventsResponse.builder()
+                .stackEvents(ImmutableList.of(EVENT_CREATE_COMPLETE))
                 .build())
-            .thenReturn(DescribeStacksResponse.builder()
-                .stacks(ImmutableList.of(STACK_UPDATE_IN_PROGRESS))
+            .thenReturn(DescribeStackEventsResponse.builder()
+                .stackEvents(ImmutableList.of(EVENT_UPDATE_IN_PROGRESS, EVENT_CREATE_COMPLETE))
                 .build())
-            .thenReturn(DescribeStacksResponse.builder()
-                .stacks(ImmutableList.of(STACK_UPDATE_COMPLETE))
+            .thenReturn(DescribeStackEventsResponse.builder()
+                .stackEvents(ImmutableList.of(EVENT_UPDATE_COMPLETE, EVENT_UPDATE_IN_PROGRESS, EVENT_CREATE_COMPLETE))
                 .build());
 
         final UpdateHandler handler = new UpdateHandler();
@@ -112,16 +115,18 @@ public class UpdateHandlerTest extends AbstractTestBase {
     public void stabilize_no_stack_exist_throw_CfnNotFoundException() {
         when(proxyClient.client().updateStack(any(UpdateStackRequest.class)))
             .thenReturn(UpdateStackResponse.builder().stackId(STACK_ID).build());
-        when(proxyClient.client().describeStacks(any(DescribeStacksRequest.class)))
-            .thenReturn(DescribeStacksResponse.builder()
-                .stacks(ImmutableList.of())
-                .build());
+        when(proxyClient.client().describeStackEvents(any(DescribeStackEventsRequest.class)))
+            .thenReturn(DescribeStackEventsResponse.builder()
+                .stackEvents(ImmutableList.of(EVENT_CREATE_COMPLETE))
+                .build())
+            .thenThrow(CloudFormationException.builder().message(NOT_FOUND_ERROR_MESSAGE).build());
 
         final UpdateHandler handler = new UpdateHandler();
 
         final ResourceModel model = ResourceModel.builder()
             .stackId(STACK_ID)
             .stackName(STACK_NAME)
+            .templateURL(TEMPLATE_URL)
             .enableTerminationProtection(false)
             .build();
 
@@ -135,6 +140,10 @@ public class UpdateHandlerTest extends AbstractTestBase {
     }
     @Test
     public void handlerRequest_Failure_handle_Error() {
+        when(proxyClient.client().describeStackEvents(any(DescribeStackEventsRequest.class)))
+            .thenReturn(DescribeStackEventsResponse.builder()
+                .stackEvents(ImmutableList.of(EVENT_CREATE_COMPLETE))
+                .build());
         when(proxyClient.client().updateStack(any(UpdateStackRequest.class)))
             .thenThrow(AwsServiceException.builder().message("ServiceError").build());
         final UpdateHandler handler = new UpdateHandler();
@@ -142,6 +151,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         final ResourceModel model = ResourceModel.builder()
             .stackId(STACK_ID)
             .stackName(STACK_NAME)
+            .templateURL(TEMPLATE_URL)
             .enableTerminationProtection(false)
             .build();
 
@@ -161,11 +171,16 @@ public class UpdateHandlerTest extends AbstractTestBase {
             .thenReturn(UpdateTerminationProtectionResponse.builder().stackId(STACK_ID).build());
         when(proxyClient.client().updateStack(any(UpdateStackRequest.class)))
             .thenThrow(CloudFormationException.builder().message("No updates are to be performed").build());
+        when(proxyClient.client().describeStackEvents(any(DescribeStackEventsRequest.class)))
+            .thenReturn(DescribeStackEventsResponse.builder()
+                .stackEvents(ImmutableList.of(EVENT_CREATE_COMPLETE))
+                .build());
         final UpdateHandler handler = new UpdateHandler();
 
         final ResourceModel model = ResourceModel.builder()
             .stackId(STACK_ID)
             .stackName(STACK_NAME)
+            .templateURL(TEMPLATE_URL)
             .enableTerminationProtection(false)
             .build();
         final ResourceModel prevmodel = ResourceModel.builder()
@@ -192,7 +207,10 @@ public class UpdateHandlerTest extends AbstractTestBase {
     public void stablization_Failure_handle_error() {
         when(proxyClient.client().updateTerminationProtection(any(UpdateTerminationProtectionRequest.class)))
             .thenReturn(UpdateTerminationProtectionResponse.builder().stackId(STACK_ID).build());
-        when(proxyClient.client().describeStacks(any(DescribeStacksRequest.class)))
+        when(proxyClient.client().describeStackEvents(any(DescribeStackEventsRequest.class)))
+            .thenReturn(DescribeStackEventsResponse.builder()
+                .stackEvents(ImmutableList.of(EVENT_CREATE_COMPLETE))
+                .build())
             .thenThrow(AwsServiceException.builder().message("Service Error").build());
         when(proxyClient.client().updateStack(any(UpdateStackRequest.class)))
             .thenReturn(UpdateStackResponse.builder().stackId(STACK_ID).build());
@@ -201,6 +219,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         final ResourceModel model = ResourceModel.builder()
             .stackId(STACK_ID)
             .stackName(STACK_NAME)
+            .templateURL(TEMPLATE_URL)
             .enableTerminationProtection(false)
             .build();
         final ResourceModel prevmodel = ResourceModel.builder()
@@ -226,12 +245,12 @@ public class UpdateHandlerTest extends AbstractTestBase {
             .thenReturn(UpdateTerminationProtectionResponse.builder().stackId(STACK_ID).build());
         when(proxyClient.client().updateStack(any(UpdateStackRequest.class)))
             .thenReturn(UpdateStackResponse.builder().stackId(STACK_ID).build());
-        when(proxyClient.client().describeStacks(any(DescribeStacksRequest.class)))
-            .thenReturn(DescribeStacksResponse.builder()
-                .stacks(ImmutableList.of(STACK_CREATE_COMPLETE))
+        when(proxyClient.client().describeStackEvents(any(DescribeStackEventsRequest.class)))
+            .thenReturn(DescribeStackEventsResponse.builder()
+                .stackEvents(ImmutableList.of(EVENT_CREATE_COMPLETE))
                 .build())
-            .thenReturn(DescribeStacksResponse.builder()
-                .stacks(ImmutableList.of(STACK_UPDATE_COMPLETE_CLEANUP_IN_PROGRESS))
+            .thenReturn(DescribeStackEventsResponse.builder()
+                .stackEvents(ImmutableList.of(EVENT_UPDATE_COMPLETE_CLEANUP_IN_PROGRESS, EVENT_UPDATE_IN_PROGRESS, EVENT_CREATE_COMPLETE))
                 .build());
 
         final UpdateHandler handler = new UpdateHandler();
@@ -239,6 +258,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         final ResourceModel model = ResourceModel.builder()
             .stackId(STACK_ID)
             .stackName(STACK_NAME)
+            .templateURL(TEMPLATE_URL)
             .enableTerminationProtection(false)
             .build();
         final ResourceModel prevmodel = ResourceModel.builder()
@@ -264,13 +284,19 @@ public class UpdateHandlerTest extends AbstractTestBase {
     }
 
     @Test
-    public void describeStacksResponseIsEmpty_HandlerShouldThrowException() {
+    public void describeStackEventsResponseIsEmpty_HandlerKeepsPolling() {
         // Mocks
         when(proxyClient.client().updateStack(any(UpdateStackRequest.class)))
             .thenReturn(UpdateStackResponse.builder().stackId(STACK_ID).build());
-        when(proxyClient.client().describeStacks(any(DescribeStacksRequest.class)))
-            .thenReturn(DescribeStacksResponse.builder()
-                .stacks(ImmutableList.of())
+        when(proxyClient.client().describeStackEvents(any(DescribeStackEventsRequest.class)))
+            .thenReturn(DescribeStackEventsResponse.builder()
+                .stackEvents(ImmutableList.of())
+                .build())
+            .thenReturn(DescribeStackEventsResponse.builder()
+                .stackEvents(ImmutableList.of())
+                .build())
+            .thenReturn(DescribeStackEventsResponse.builder()
+                .stackEvents(ImmutableList.of(EVENT_UPDATE_COMPLETE, EVENT_UPDATE_IN_PROGRESS))
                 .build());
 
         final UpdateHandler handler = new UpdateHandler();
@@ -278,6 +304,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         final ResourceModel model = ResourceModel.builder()
             .stackId(STACK_ID)
             .stackName(STACK_NAME)
+            .templateURL(TEMPLATE_URL)
             .enableTerminationProtection(false)
             .build();
 
@@ -286,8 +313,11 @@ public class UpdateHandlerTest extends AbstractTestBase {
             .previousResourceState(model)
             .build();
 
-        assertThatThrownBy(() -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger))
-            .isInstanceOf(CfnNotFoundException.class);
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualToIgnoringNullFields(request.getDesiredResourceState());
     }
 
     @Test
@@ -295,9 +325,12 @@ public class UpdateHandlerTest extends AbstractTestBase {
         // Mocks
         when(proxyClient.client().updateStack(any(UpdateStackRequest.class)))
             .thenReturn(UpdateStackResponse.builder().stackId(STACK_ID).build());
-        when(proxyClient.client().describeStacks(any(DescribeStacksRequest.class)))
-            .thenReturn(DescribeStacksResponse.builder()
-                .stacks(ImmutableList.of(STACK_UPDATE_FAILED))
+        when(proxyClient.client().describeStackEvents(any(DescribeStackEventsRequest.class)))
+            .thenReturn(DescribeStackEventsResponse.builder()
+                .stackEvents(ImmutableList.of(EVENT_CREATE_COMPLETE))
+                .build())
+            .thenReturn(DescribeStackEventsResponse.builder()
+                .stackEvents(ImmutableList.of(EVENT_UPDATE_FAILED, EVENT_UPDATE_IN_PROGRESS, EVENT_CREATE_COMPLETE))
                 .build());
 
         final UpdateHandler handler = new UpdateHandler();
@@ -305,6 +338,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         final ResourceModel model = ResourceModel.builder()
             .stackId(STACK_ID)
             .stackName(STACK_NAME)
+            .templateURL(TEMPLATE_URL)
             .enableTerminationProtection(false)
             .build();
 
@@ -316,4 +350,100 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThatThrownBy(() -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger))
             .isInstanceOf(CfnNotStabilizedException.class);
     }
+
+    @Test
+    public void terminationProtectionOnly_SkipsUpdateStack() {
+        when(proxyClient.client().updateTerminationProtection(any(UpdateTerminationProtectionRequest.class)))
+            .thenReturn(UpdateTerminationProtectionResponse.builder().stackId(STACK_ID).build());
+
+        final UpdateHandler handler = new UpdateHandler();
+
+        final ResourceModel model = ResourceModel.builder()
+            .stackId(STACK_ID)
+            .stackName(STACK_NAME)
+            .templateBody(new JSONObject(TEMPLATE_BODY).toMap())
+            .enableTerminationProtection(true)
+            .build();
+        final ResourceModel prevmodel = ResourceModel.builder()
+            .stackId(STACK_ID)
+            .stackName(STACK_NAME)
+            .templateBody(new JSONObject(TEMPLATE_BODY).toMap())
+            .enableTerminationProtection(false)
+            .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .previousResourceState(prevmodel)
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(sdkClient).updateTerminationProtection(any(UpdateTerminationProtectionRequest.class));
+        verify(sdkClient, never()).updateStack(any(UpdateStackRequest.class));
+    }
+
+    @Test
+    public void stackPolicyOnly_SetsStackPolicy() {
+        when(proxyClient.client().setStackPolicy(any(SetStackPolicyRequest.class)))
+            .thenReturn(SetStackPolicyResponse.builder().build());
+
+        final UpdateHandler handler = new UpdateHandler();
+
+        final ResourceModel model = ResourceModel.builder()
+            .stackId(STACK_ID)
+            .stackName(STACK_NAME)
+            .templateBody(new JSONObject(TEMPLATE_BODY).toMap())
+            .stackPolicyBody(new JSONObject(STACK_POLICY_BODY).toMap())
+            .build();
+        final ResourceModel prevmodel = ResourceModel.builder()
+            .stackId(STACK_ID)
+            .stackName(STACK_NAME)
+            .templateBody(new JSONObject(TEMPLATE_BODY).toMap())
+            .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .previousResourceState(prevmodel)
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(sdkClient).setStackPolicy(any(SetStackPolicyRequest.class));
+        verify(sdkClient, never()).updateStack(any(UpdateStackRequest.class));
+    }
+
+    @Test
+    public void terminationProtectionFailure_NotHiddenByNoUpdates() {
+        when(proxyClient.client().updateTerminationProtection(any(UpdateTerminationProtectionRequest.class)))
+            .thenThrow(AwsServiceException.builder().message("ServiceError").build());
+        when(proxyClient.client().updateStack(any(UpdateStackRequest.class)))
+            .thenThrow(CloudFormationException.builder().message("No updates are to be performed").build());
+        when(proxyClient.client().describeStackEvents(any(DescribeStackEventsRequest.class)))
+            .thenReturn(DescribeStackEventsResponse.builder()
+                .stackEvents(ImmutableList.of(EVENT_CREATE_COMPLETE))
+                .build());
+        final UpdateHandler handler = new UpdateHandler();
+
+        final ResourceModel model = ResourceModel.builder()
+            .stackId(STACK_ID)
+            .stackName(STACK_NAME)
+            .templateURL(TEMPLATE_URL)
+            .enableTerminationProtection(true)
+            .build();
+        final ResourceModel prevmodel = ResourceModel.builder()
+            .stackId(STACK_ID)
+            .stackName(STACK_NAME)
+            .enableTerminationProtection(false)
+            .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .previousResourceState(prevmodel)
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+    }
 }
@@ -20,6 +20,7 @@ import software.amazon.awssdk.services.cloudformation.model.StackSetOperationRes
 import software.amazon.awssdk.services.cloudformation.model.StackSetOperationStatus;
 import software.amazon.awssdk.services.cloudformation.model.StackSetStatus;
 import software.amazon.awssdk.services.cloudformation.model.UpdateStackInstancesResponse;
+import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.cloudformation.Action;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
@@ -29,17 +30,23 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.MultipleOf;
+import software.amazon.cloudformation.stackset.util.AdaptivePollingDelay;
 import software.amazon.cloudformation.stackset.util.AltResourceModelAnalyzer;
 import software.amazon.cloudformation.stackset.util.ClientBuilder;
 import software.amazon.cloudformation.stackset.util.Comparator;
 import software.amazon.cloudformation.stackset.util.InstancesAnalyzer;
 import software.amazon.cloudformation.stackset.util.StackInstancesPlaceHolder;
+import software.amazon.cloudformation.stackset.util.StackInstancesPlanCodec;
+import software.amazon.cloudformation.stackset.util.StackInstancesPlanner;
+import software.amazon.cloudformation.stackset.util.StackSetOperationPoller;
+import software.amazon.cloudformation.stackset.util.StackSetOperationPoller.OperationPoll;
+import software.amazon.cloudformation.stackset.util.StatusReasonCollector;
 import software.amazon.cloudformation.stackset.util.Validator;
 
+import java.time.Clock;
 import java.time.Duration;
-import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
 
 import static software.amazon.cloudformation.stackset.translator.RequestTranslator.createStackInstancesRequest;
 import static software.amazon.cloudformation.stackset.translator.RequestTranslator.deleteStackInstancesRequest;
@@ -56,12 +63,28 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
     private static final int ERROR_MESSAGE_CHARACTER_LIMIT = 850;
 
+    private static final int STATUS_REASON_MAX_PAGES = 5;
+
+    private static final int STATUS_REASON_HARD_MAX_PAGES = 2 * STATUS_REASON_MAX_PAGES;
+
+    private static final Duration OPERATION_TIMEOUT = Duration.ofHours(24L);
+
     protected static final MultipleOf MULTIPLE_OF = MultipleOf.multipleOf()
             .multiple(2)
-            .timeout(Duration.ofHours(24L))
+            .timeout(OPERATION_TIMEOUT)
             .delay(Duration.ofSeconds(2L))
             .build();
 
+    private static final int CONCURRENT_DISPATCH_CALLBACK_DELAY_SECONDS = 10;
+
+    private static final StackSetOperationPoller OPERATION_POLLER = new StackSetOperationPoller(Clock.systemUTC());
+
+    private static final String CREATE_STACK_INSTANCES = "CreateStackInstances";
+
+    private static final String DELETE_STACK_INSTANCES = "DeleteStackInstances";
+
+    private static final String UPDATE_STACK_INSTANCES = "UpdateStackInstances";
+
     /**
      * Retrieves the {@link StackSetOperation} from {@link DescribeStackSetOperationResponse}
      *
@@ -105,34 +128,39 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     }
 
     /**
-     * Retrieves the Set of stack instance level status reasons
+     * Collects stack instance level status reasons page by page, stops paging once the reasons fill the
+     * error message, {@link #STATUS_REASON_MAX_PAGES} pages have been read and at least one reason was found, or
+     * {@link #STATUS_REASON_HARD_MAX_PAGES} pages have been read
      *
      * @param stackSetId StackSet ID
      * @param operationId Operation ID
-     * @return Set of statusReason for failed {@link StackSetOperationResultStatus}
+     * @param collector {@link StatusReasonCollector} of failed {@link StackSetOperationResultStatus}
+     * @return if there are results left unread
      */
-    private static Set<String> getFailedStackInstanceLevelStatusReasons(
+    private static boolean collectFailedStackInstanceLevelStatusReasons(
             final ProxyClient<CloudFormationClient> proxyClient,
             final String stackSetId,
             final String operationId,
             final String callAs,
+            final StatusReasonCollector collector,
             final Logger logger) {
-        Set<String> statusReasons = new HashSet<>();
         String nextToken = null;
+        int pages = 0;
         do {
             ListStackSetOperationResultsResponse response = getStackSetOperationResults(proxyClient, nextToken, stackSetId, operationId, callAs, logger);
-            response.summaries().stream()
-                .filter(summary -> summary.status() == StackSetOperationResultStatus.FAILED)
-                .forEach(summary -> statusReasons.add(summary.statusReason()));
+            collector.accept(response.summaries());
             nextToken = response.nextToken();
-        } while (nextToken != null);
-        return statusReasons;
+            pages++;
+        } while (nextToken != null && !collector.isFull() && pages < STATUS_REASON_HARD_MAX_PAGES
+                && (pages < STATUS_REASON_MAX_PAGES || collector.getStatusReasons().isEmpty()));
+        return nextToken != null;
     }
 
     /**
      * Builds error message that will be returned to the customer
      *
      * @param operationId Operation ID
+     * @param stackSetOperationStatus StackSet Operation Status
      * @param stackSetOperationStatusReason StackSet Operation Status Reason
      * @param stackSetId StackSet ID
      * @return Error message
@@ -141,20 +169,31 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final ProxyClient<CloudFormationClient> proxyClient,
             final String callAs,
             final String operationId,
+            final StackSetOperationStatus stackSetOperationStatus,
             final String stackSetOperationStatusReason,
             final String stackSetId,
             final Logger logger) {
         StringBuilder errorMessage = new StringBuilder(String.format("Stack set operation [%s] was unexpectedly stopped or failed. status reason(s):", operationId));
+        boolean truncated = false;
         if (stackSetOperationStatusReason != null) {
             errorMessage.append(String.format(" [%s]", stackSetOperationStatusReason));
         } else {
-            Set<String> stackInstanceLevelStatusReasons = getFailedStackInstanceLevelStatusReasons(proxyClient, stackSetId, operationId, callAs, logger);
-            stackInstanceLevelStatusReasons.forEach(statusReason -> errorMessage.append(String.format(" [%s]", statusReason)));
+            final StatusReasonCollector collector = new StatusReasonCollector(ERROR_MESSAGE_CHARACTER_LIMIT - errorMessage.length());
+            truncated = collectFailedStackInstanceLevelStatusReasons(proxyClient, stackSetId, operationId, callAs, collector, logger);
+            if (collector.getStatusReasons().isEmpty()) {
+                // No failed stack instance gave a reason in the pages read, so report the status of the operation itself
+                errorMessage.append(String.format(" [Operation %s]", stackSetOperationStatus));
+            }
+            collector.appendTo(errorMessage);
+            logger.log(String.format("StackSet Operation [%s] failed stack instances: %s", operationId, collector.toHistogram()));
         }
         logger.log(String.format("Full error message: [%s]", errorMessage));
 
         if (errorMessage.length() > ERROR_MESSAGE_CHARACTER_LIMIT) {
             errorMessage.delete(ERROR_MESSAGE_CHARACTER_LIMIT, errorMessage.length());
+            truncated = true;
+        }
+        if (truncated) {
             errorMessage.append("... Use list-stack-set-operation-results for more information.");
         }
 
@@ -187,7 +226,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             case QUEUED:
                 return false;
             default:
-                String errorMessage = buildErrorMessageForFailedOperation(proxyClient, callAs, operationId, statusReason, stackSetId, logger);
+                String errorMessage = buildErrorMessageForFailedOperation(proxyClient, callAs, operationId, status, statusReason, stackSetId, logger);
                 logger.log(String.format("StackSet Operation [%s] unexpected status [%s]. Error message: [%s]", operationId, status, errorMessage));
                 throw new CfnNotStabilizedException(errorMessage, stackSetId);
         }
@@ -236,26 +275,34 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         final ResourceModel model = progress.getResourceModel();
         final CallbackContext callbackContext = progress.getCallbackContext();
 
-        for (final StackInstances stackInstances : stackInstancesList) {
+        // Resumed callbacks skip the StackInstances already done by previous invocations
+        for (int i = callbackContext.getStackInstancesCursor().getOrDefault(CREATE_STACK_INSTANCES, 0); i < stackInstancesList.size(); i++) {
+            final StackInstances stackInstances = stackInstancesList.get(i);
+            final AdaptivePollingDelay pollingDelay = operationPollingDelay();
             final ProgressEvent<ResourceModel, CallbackContext> progressEvent = proxy
                     .initiate("AWS-CloudFormation-StackSet::CreateStackInstances" + stackInstances.hashCode(), client, model, callbackContext)
                     .translateToServiceRequest(modelRequest -> createStackInstancesRequest(modelRequest.getStackSetId(), modelRequest.getOperationPreferences(), stackInstances, modelRequest.getCallAs()))
-                    .backoffDelay(MULTIPLE_OF)
+                    .backoffDelay(pollingDelay)
                     .makeServiceCall((modelRequest, proxyInvocation) -> {
                         logger.log(String.format("%s [%s] CreateStackInstances request: [%s]", ResourceModel.TYPE_NAME, model.getStackSetId(), modelRequest));
                         final CreateStackInstancesResponse response = proxyInvocation.injectCredentialsAndInvokeV2(modelRequest, proxyInvocation.client()::createStackInstances);
                         logger.log(String.format("%s [%s] CreateStackInstances in [%s] of [%s] initiated", ResourceModel.TYPE_NAME, model.getStackSetId(), stackInstances.getRegions(), stackInstances.getDeploymentTargets()));
                         return response;
                     })
-                    .stabilize((request, response, proxyInvocation, resourceModel, context) -> isOperationStabilized(proxyInvocation, resourceModel, response.operationId(), logger))
+                    .stabilize((request, response, proxyInvocation, resourceModel, context) -> isConcurrentDispatch(resourceModel)
+                            ? trackOperation(context, response.operationId())
+                            : isOperationStabilized(proxyInvocation, resourceModel, response.operationId(), context, pollingDelay, logger))
+                    .retryErrorFilter((request, e, proxyClient, resourceModel, context) ->
+                            isConcurrentDispatch(resourceModel) && filterException(request, e, proxyClient, resourceModel, context))
                     .success();
 
             if (!progressEvent.isSuccess()) {
                 return progressEvent;
             }
+            callbackContext.getStackInstancesCursor().put(CREATE_STACK_INSTANCES, i + 1);
         }
 
-        return ProgressEvent.progress(model, callbackContext);
+        return isConcurrentDispatch(model) ? waitForOperations(client, progress, logger) : ProgressEvent.progress(model, callbackContext);
     }
 
     /**
@@ -279,25 +326,30 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         final ResourceModel model = progress.getResourceModel();
         final CallbackContext callbackContext = progress.getCallbackContext();
 
-        for (final StackInstances stackInstances : stackInstancesList) {
+        // Resumed callbacks skip the StackInstances already done by previous invocations
+        for (int i = callbackContext.getStackInstancesCursor().getOrDefault(DELETE_STACK_INSTANCES, 0); i < stackInstancesList.size(); i++) {
+            final StackInstances stackInstances = stackInstancesList.get(i);
+            final AdaptivePollingDelay pollingDelay = operationPollingDelay();
             final ProgressEvent<ResourceModel, CallbackContext> progressEvent = proxy
                     .initiate("AWS-CloudFormation-StackSet::DeleteStackInstances" + stackInstances.hashCode(), client, model, callbackContext)
                     .translateToServiceRequest(modelRequest -> deleteStackInstancesRequest(modelRequest.getStackSetId(), modelRequest.getOperationPreferences(), stackInstances, modelRequest.getCallAs()))
-                    .backoffDelay(MULTIPLE_OF)
+                    .backoffDelay(pollingDelay)
                     .makeServiceCall((modelRequest, proxyInvocation) -> {
                         logger.log(String.format("%s [%s] DeleteStackInstances request: [%s]", ResourceModel.TYPE_NAME, model.getStackSetId(), modelRequest));
                         final DeleteStackInstancesResponse response = proxyInvocation.injectCredentialsAndInvokeV2(modelRequest, proxyInvocation.client()::deleteStackInstances);
                         logger.log(String.format("%s [%s] DeleteStackInstances in [%s] of [%s] initiated", ResourceModel.TYPE_NAME, model.getStackSetId(), stackInstances.getRegions(), stackInstances.getDeploymentTargets()));
                         return response;
                     })
-                    .stabilize((request, response, proxyInvocation, resourceModel, context) -> isOperationStabilized(proxyInvocation, resourceModel, response.operationId(), logger))
+                    .stabilize((request, response, proxyInvocation, resourceModel, context) -> isConcurrentDispatch(resourceModel)
+                            ? trackOperation(context, response.operationId())
+                            : isOperationStabilized(proxyInvocation, resourceModel, response.operationId(), context, pollingDelay, logger))
                     .handleError((request, e, proxyClient, model_, context) -> {
                         // If StackInstanceNotFoundException is thrown by the service, then we did succeed delete/stabilization call in case of out of band deletion.
                         if (e instanceof StackInstanceNotFoundException) {
                             return ProgressEvent.success(model_, context);
                         }
                         // If OperationInProgressException is thrown by the service, then we retry
-                        if (e instanceof OperationInProgressException) {
+                        if (filterException(request, e, proxyClient, model_, context)) {
                             throw RetryableException.builder().build();
                         }
                         throw e;
@@ -307,9 +359,10 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             if (!progressEvent.isSuccess()) {
                 return progressEvent;
             }
+            callbackContext.getStackInstancesCursor().put(DELETE_STACK_INSTANCES, i + 1);
         }
 
-        return ProgressEvent.progress(model, callbackContext);
+        return isConcurrentDispatch(model) ? waitForOperations(client, progress, logger) : ProgressEvent.progress(model, callbackContext);
     }
 
     /**
@@ -333,27 +386,33 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         final ResourceModel model = progress.getResourceModel();
         final CallbackContext callbackContext = progress.getCallbackContext();
 
-        for (final StackInstances stackInstances : stackInstancesList) {
+        // Resumed callbacks skip the StackInstances already done by previous invocations
+        for (int i = callbackContext.getStackInstancesCursor().getOrDefault(UPDATE_STACK_INSTANCES, 0); i < stackInstancesList.size(); i++) {
+            final StackInstances stackInstances = stackInstancesList.get(i);
+            final AdaptivePollingDelay pollingDelay = operationPollingDelay();
             final ProgressEvent<ResourceModel, CallbackContext> progressEvent = proxy
                     .initiate("AWS-CloudFormation-StackSet::UpdateStackInstances" + stackInstances.hashCode(), client, model, callbackContext)
                     .translateToServiceRequest(modelRequest -> updateStackInstancesRequest(modelRequest.getStackSetId(), modelRequest.getOperationPreferences(), stackInstances, modelRequest.getCallAs()))
-                    .backoffDelay(MULTIPLE_OF)
+                    .backoffDelay(pollingDelay)
                     .makeServiceCall((modelRequest, proxyInvocation) -> {
                         logger.log(String.format("%s [%s] UpdateStackInstances request: [%s]", ResourceModel.TYPE_NAME, model.getStackSetId(), modelRequest));
                         final UpdateStackInstancesResponse response = proxyInvocation.injectCredentialsAndInvokeV2(modelRequest, proxyInvocation.client()::updateStackInstances);
                         logger.log(String.format("%s [%s] UpdateStackInstances in [%s] of [%s] initiated", ResourceModel.TYPE_NAME, model.getStackSetId(), stackInstances.getRegions(), stackInstances.getDeploymentTargets()));
                         return response;
                     })
-                    .stabilize((request, response, proxyInvocation, resourceModel, context) -> isOperationStabilized(proxyInvocation, resourceModel, response.operationId(), logger))
+                    .stabilize((request, response, proxyInvocation, resourceModel, context) -> isConcurrentDispatch(resourceModel)
+                            ? trackOperation(context, response.operationId())
+                            : isOperationStabilized(proxyInvocation, resourceModel, response.operationId(), context, pollingDelay, logger))
                     .retryErrorFilter(this::filterException)
                     .success();
 
             if (!progressEvent.isSuccess()) {
                 return progressEvent;
             }
+            callbackContext.getStackInstancesCursor().put(UPDATE_STACK_INSTANCES, i + 1);
         }
 
-        return ProgressEvent.progress(model, callbackContext);
+        return isConcurrentDispatch(model) ? waitForOperations(client, progress, logger) : ProgressEvent.progress(model, callbackContext);
     }
 
     protected StackSet describeStackSet(final ProxyClient<CloudFormationClient> proxyClient,
@@ -396,31 +455,166 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
      * Checks if the operation is stabilized using OperationId to interact with
      * {@link DescribeStackSetOperationResponse}
      *
-     * @param model       {@link ResourceModel}
-     * @param operationId OperationId from operation response
-     * @param logger      Logger
+     * @param model           {@link ResourceModel}
+     * @param operationId     OperationId from operation response
+     * @param callbackContext {@link CallbackContext}
+     * @param pollingDelay    {@link AdaptivePollingDelay} of the call chain, updated with the expected completion time
+     * @param logger          Logger
      * @return A boolean value indicates if operation is complete
      */
     protected boolean isOperationStabilized(final ProxyClient<CloudFormationClient> proxyClient,
                                             final ResourceModel model,
                                             final String operationId,
+                                            final CallbackContext callbackContext,
+                                            final AdaptivePollingDelay pollingDelay,
                                             final Logger logger) {
 
+        final OperationPoll poll = pollStackSetOperation(proxyClient, model, operationId, callbackContext, logger);
+        pollingDelay.expect(poll.getOperation(), poll.getExpectedRemaining());
+        return isStackSetOperationDone(proxyClient, model.getCallAs(), poll.getOperation(), operationId, model.getStackSetId(), logger);
+    }
+
+    /**
+     * Polls the StackSet operation through the {@link StackSetOperationPoller}, and records the number of
+     * DescribeStackSetOperation calls issued for it in {@link CallbackContext#getOperationPollCounts()}
+     *
+     * @param model           {@link ResourceModel}
+     * @param operationId     OperationId from operation response
+     * @param callbackContext {@link CallbackContext}
+     * @param logger          Logger
+     * @return {@link OperationPoll}
+     */
+    protected OperationPoll pollStackSetOperation(final ProxyClient<CloudFormationClient> proxyClient,
+                                                  final ResourceModel model,
+                                                  final String operationId,
+                                                  final CallbackContext callbackContext,
+                                                  final Logger logger) {
+
         final String stackSetId = model.getStackSetId();
         final String callAs = model.getCallAs();
-        final StackSetOperation stackSetOperation = getStackSetOperation(proxyClient, stackSetId, operationId, callAs, logger);
-        return isStackSetOperationDone(proxyClient, callAs, stackSetOperation, operationId, stackSetId, logger);
+        final int pollCount = callbackContext.getOperationPollCounts().merge(operationId, 1, Integer::sum);
+        final OperationPoll poll = OPERATION_POLLER.poll(
+                () -> getStackSetOperation(proxyClient, stackSetId, operationId, callAs, logger),
+                // Only the first page is sampled, its completion ratio stands for the whole operation
+                () -> getStackSetOperationResults(proxyClient, null, stackSetId, operationId, callAs, logger).summaries(),
+                pollCount);
+
+        if (poll.isDone()) {
+            logger.log(String.format("StackSet Operation [%s] OperationPollCount: [%d]", operationId, pollCount));
+        } else if (poll.getExpectedRemaining() != null) {
+            logger.log(String.format("StackSet Operation [%s] expected to complete in [%s]", operationId, poll.getExpectedRemaining()));
+        }
+        return poll;
     }
 
     /**
-     * Analyzes/validates template and StackInstancesGroup
+     * @return {@link AdaptivePollingDelay} for a new call chain stabilizing a StackSet operation
+     */
+    protected static AdaptivePollingDelay operationPollingDelay() {
+        return new AdaptivePollingDelay(MULTIPLE_OF, OPERATION_TIMEOUT);
+    }
+
+    /**
+     * Concurrent dispatch of stack instance operations is opted in through {@link OperationPreferences#getConcurrentDispatch()},
+     * and relies on {@link ManagedExecution}, with which the StackSet service runs non-conflicting operations concurrently
+     * and queues conflicting ones
+     *
+     * @param model {@link ResourceModel}
+     * @return if stack instance operations are submitted without waiting for each other
+     */
+    protected static boolean isConcurrentDispatch(final ResourceModel model) {
+        return model.getOperationPreferences() != null
+                && Boolean.TRUE.equals(model.getOperationPreferences().getConcurrentDispatch())
+                && model.getManagedExecution() != null
+                && Boolean.TRUE.equals(model.getManagedExecution().getActive());
+    }
+
+    /**
+     * Records an operation submitted in concurrent dispatch mode, it is polled by {@link #waitForOperations}
+     *
+     * @param callbackContext {@link CallbackContext}
+     * @param operationId     Operation ID
+     * @return Always true, the submission itself is considered stabilized
+     */
+    private static boolean trackOperation(final CallbackContext callbackContext, final String operationId) {
+        if (!callbackContext.getStabilizedOperationIds().contains(operationId)) {
+            callbackContext.getOperationIds().add(operationId);
+        }
+        return true;
+    }
+
+    /**
+     * Polls all in-flight operations submitted in concurrent dispatch mode together, and re-invokes the handler
+     * until every one of them is stabilized
      *
      * @param proxyClient the aws service client {@link ProxyClient<CloudFormationClient>} to make the call
-     * @param request     {@link ResourceHandlerRequest<ResourceModel>}
-     * @param placeHolder {@link StackInstancesPlaceHolder}
-     * @param action      {@link Action}
+     * @param progress    {@link ProgressEvent<ResourceModel, CallbackContext>} to place hold the current progress data
+     * @param logger      {@link Logger}
+     * @return {@link ProgressEvent<ResourceModel, CallbackContext>}
+     */
+    protected ProgressEvent<ResourceModel, CallbackContext> waitForOperations(
+            final ProxyClient<CloudFormationClient> proxyClient,
+            final ProgressEvent<ResourceModel, CallbackContext> progress,
+            final Logger logger) {
+
+        final ResourceModel model = progress.getResourceModel();
+        final CallbackContext callbackContext = progress.getCallbackContext();
+
+        // Re-invoke once the first pending operation is expected to complete
+        Duration callbackDelay = null;
+        final Iterator<String> operationIds = callbackContext.getOperationIds().iterator();
+        while (operationIds.hasNext()) {
+            final String operationId = operationIds.next();
+            final OperationPoll poll = pollStackSetOperation(proxyClient, model, operationId, callbackContext, logger);
+            if (isStackSetOperationDone(proxyClient, model.getCallAs(), poll.getOperation(), operationId, model.getStackSetId(), logger)) {
+                operationIds.remove();
+                callbackContext.getStabilizedOperationIds().add(operationId);
+            } else if (poll.getExpectedRemaining() != null
+                    && (callbackDelay == null || poll.getExpectedRemaining().compareTo(callbackDelay) < 0)) {
+                callbackDelay = poll.getExpectedRemaining();
+            }
+        }
+
+        if (callbackContext.getOperationIds().isEmpty()) {
+            return ProgressEvent.progress(model, callbackContext);
+        }
+        logger.log(String.format("%s [%s] waiting for StackSet Operations %s",
+                ResourceModel.TYPE_NAME, model.getStackSetId(), callbackContext.getOperationIds()));
+        final int callbackDelaySeconds = callbackDelay == null
+                ? CONCURRENT_DISPATCH_CALLBACK_DELAY_SECONDS : (int) AdaptivePollingDelay.clamp(callbackDelay).getSeconds();
+        return ProgressEvent.defaultInProgressHandler(callbackContext, callbackDelaySeconds, model);
+    }
+
+    /**
+     * Analyzes/validates template and StackInstancesGroup, the resulting plan is kept in
+     * {@link CallbackContext#getStackInstancesPlan()} and reused by the following callbacks
+     *
+     * @param proxyClient     the aws service client {@link ProxyClient<CloudFormationClient>} to make the call
+     * @param request         {@link ResourceHandlerRequest<ResourceModel>}
+     * @param placeHolder     {@link StackInstancesPlaceHolder}
+     * @param callbackContext {@link CallbackContext}
+     * @param action          {@link Action}
      */
     protected void analyzeTemplate(
+            final ProxyClient<CloudFormationClient> proxyClient,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final StackInstancesPlaceHolder placeHolder,
+            final CallbackContext callbackContext,
+            final Action action) {
+
+        if (callbackContext.getStackInstancesPlan() != null) {
+            // Resumed callbacks neither validate the template nor analyze StackInstancesGroup again
+            final StackInstancesPlaceHolder plan = StackInstancesPlanCodec.decode(callbackContext.getStackInstancesPlan());
+            placeHolder.setCreateStackInstances(plan.getCreateStackInstances());
+            placeHolder.setDeleteStackInstances(plan.getDeleteStackInstances());
+            placeHolder.setUpdateStackInstances(plan.getUpdateStackInstances());
+            return;
+        }
+        analyzeStackInstances(proxyClient, request, placeHolder, action);
+        callbackContext.setStackInstancesPlan(StackInstancesPlanCodec.encode(placeHolder));
+    }
+
+    private void analyzeStackInstances(
             final ProxyClient<CloudFormationClient> proxyClient,
             final ResourceHandlerRequest<ResourceModel> request,
             final StackInstancesPlaceHolder placeHolder,
@@ -458,21 +652,47 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                     AltResourceModelAnalyzer.builder().previousModel(desiredModel).build().analyze(placeHolder);
                     break;
             }
+            planStackInstances(placeHolder, isSelfManaged, hasRegionOrder(previousModel) || hasRegionOrder(desiredModel));
             return;
         }
 
         switch (action) {
             case CREATE:
-                new Validator().validateTemplate(proxyClient, desiredModel.getTemplateBody(), desiredModel.getTemplateURL(),isSelfManaged);
+                new Validator().validateTemplate(proxyClient, desiredModel.getTemplateBody(), desiredModel.getTemplateURL(), isSelfManaged);
                 InstancesAnalyzer.builder().desiredModel(desiredModel).build().analyzeForCreate(placeHolder);
                 break;
             case UPDATE:
-                new Validator().validateTemplate(proxyClient, desiredModel.getTemplateBody(), desiredModel.getTemplateURL(),isSelfManaged);
+                new Validator().validateTemplate(proxyClient, desiredModel.getTemplateBody(), desiredModel.getTemplateURL(), isSelfManaged);
                 InstancesAnalyzer.builder().desiredModel(desiredModel).previousModel(previousModel).build().analyzeForUpdate(placeHolder);
                 break;
             case DELETE:
                 InstancesAnalyzer.builder().desiredModel(desiredModel).build().analyzeForDelete(placeHolder);
             }
+        planStackInstances(placeHolder, isSelfManaged, false);
+    }
+
+    /**
+     * Re-partitions analyzed {@link StackInstances} into as few StackSet operations as possible
+     *
+     * @param placeHolder         {@link StackInstancesPlaceHolder}
+     * @param isSelfManaged       if PermissionModel is SELF_MANAGED
+     * @param preserveRegionOrder if account-level targeting groups must keep their RegionOrder sequence
+     */
+    private static void planStackInstances(
+            final StackInstancesPlaceHolder placeHolder,
+            final boolean isSelfManaged,
+            final boolean preserveRegionOrder) {
+
+        StackInstancesPlanner.builder()
+                .isSelfManaged(isSelfManaged)
+                .preserveRegionOrder(preserveRegionOrder)
+                .build()
+                .plan(placeHolder);
+    }
+
+    private static boolean hasRegionOrder(final ResourceModel model) {
+        return model != null && model.getOperationPreferences() != null
+                && !CollectionUtils.isNullOrEmpty(model.getOperationPreferences().getRegionOrder());
     }
 
 }
@@ -2,9 +2,40 @@ package software.amazon.cloudformation.stackset;
 
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
 @lombok.Getter
 @lombok.Setter
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
+
+    /**
+     * In-flight StackSet operations submitted in concurrent dispatch mode
+     */
+    private Set<String> operationIds = new LinkedHashSet<>();
+
+    /**
+     * StackSet operations submitted in concurrent dispatch mode that have already been stabilized
+     */
+    private Set<String> stabilizedOperationIds = new LinkedHashSet<>();
+
+    /**
+     * Number of DescribeStackSetOperation calls issued per StackSet operation
+     */
+    private Map<String, Integer> operationPollCounts = new LinkedHashMap<>();
+
+    /**
+     * StackInstances to delete, create and update, analyzed once by the first invocation of this handler operation
+     * and encoded by {@link software.amazon.cloudformation.stackset.util.StackInstancesPlanCodec}
+     */
+    private String stackInstancesPlan;
+
+    /**
+     * Number of StackInstances of {@link #stackInstancesPlan} already done, by stack instances operation
+     */
+    private Map<String, Integer> stackInstancesCursor = new LinkedHashMap<>();
 }
@@ -27,7 +27,7 @@ public class DeleteHandler extends BaseHandlerStd {
         final ResourceModel model = request.getDesiredResourceState();
         // Analyzes stack instances group for delete
         final StackInstancesPlaceHolder placeHolder = new StackInstancesPlaceHolder();
-        analyzeTemplate(proxyClient, request, placeHolder, Action.DELETE);
+        analyzeTemplate(proxyClient, request, placeHolder, callbackContext, Action.DELETE);
         // describe StackSet in case it is DELETED
         describeStackSet(proxyClient, model.getStackSetId(), model.getCallAs(), logger);
 
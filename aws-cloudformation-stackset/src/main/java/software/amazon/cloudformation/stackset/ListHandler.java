@@ -1,7 +1,9 @@
 package software.amazon.cloudformation.stackset;
 
+import com.google.common.annotations.VisibleForTesting;
 import software.amazon.awssdk.services.cloudformation.CloudFormationClient;
 import software.amazon.awssdk.services.cloudformation.model.ListStackSetsResponse;
+import software.amazon.awssdk.services.cloudformation.model.StackSetSummary;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -10,13 +12,43 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.stackset.util.ResourceModelBuilder;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 import static software.amazon.cloudformation.stackset.translator.RequestTranslator.listStackSetsRequest;
 
 public class ListHandler extends BaseHandlerStd {
 
+    private static final int HYDRATION_CONCURRENCY = 8;
+
+    private static final Duration HYDRATION_DEADLINE = Duration.ofSeconds(30L);
+
+    // Shared by every List request in this process, so concurrent requests cannot multiply threads
+    private static final ExecutorService HYDRATION_EXECUTOR = Executors.newFixedThreadPool(HYDRATION_CONCURRENCY, runnable -> {
+        final Thread thread = new Thread(runnable, "AWS-CloudFormation-StackSet-ListHydration");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Duration hydrationDeadline;
+
+    public ListHandler() {
+        this(HYDRATION_DEADLINE);
+    }
+
+    @VisibleForTesting
+    ListHandler(final Duration hydrationDeadline) {
+        this.hydrationDeadline = hydrationDeadline;
+    }
+
     @Override
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -28,20 +60,67 @@ public class ListHandler extends BaseHandlerStd {
         final ListStackSetsResponse response = proxyClient.injectCredentialsAndInvokeV2(
                 listStackSetsRequest(request.getNextToken()), proxyClient.client()::listStackSets);
 
-        final List<ResourceModel> models = response
-                .summaries()
-                .stream()
-                .map(stackSetSummary -> ResourceModelBuilder.builder()
+        return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                .resourceModels(buildModels(proxyClient, response.summaries(), logger))
+                .status(OperationStatus.SUCCESS)
+                .nextToken(response.nextToken())
+                .build();
+    }
+
+    /**
+     * Builds the models of the summaries concurrently until the deadline. The List contract only requires the
+     * primary identifier, so the summaries not hydrated by the deadline are returned as identifier-only models,
+     * and the page always ends on the ListStackSets nextToken. At least one model is always hydrated.
+     *
+     * @param summaries {@link StackSetSummary} list of the page
+     * @return Models of the summaries, in summary order
+     */
+    private List<ResourceModel> buildModels(
+            final ProxyClient<CloudFormationClient> proxyClient,
+            final List<StackSetSummary> summaries,
+            final Logger logger) {
+
+        final List<ResourceModel> models = new ArrayList<>(summaries.size());
+        if (summaries.isEmpty()) return models;
+
+        final long deadline = System.nanoTime() + hydrationDeadline.toNanos();
+        final List<Future<ResourceModel>> futures = summaries.stream()
+                .map(stackSetSummary -> HYDRATION_EXECUTOR.submit(() -> ResourceModelBuilder.builder()
                         .proxyClient(proxyClient)
                         .stackSet(describeStackSet(proxyClient, stackSetSummary.stackSetId(), logger))
                         .build()
-                        .buildModel())
+                        .buildModel()))
                 .collect(Collectors.toList());
+        try {
+            for (final Future<ResourceModel> future : futures) {
+                if (models.isEmpty()) {
+                    models.add(future.get());
+                    continue;
+                }
+                try {
+                    models.add(future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+                } catch (final TimeoutException e) {
+                    logger.log(String.format("%s List deadline reached after hydrating [%d] of [%d] StackSets",
+                            ResourceModel.TYPE_NAME, models.size(), summaries.size()));
+                    break;
+                }
+            }
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } finally {
+            futures.subList(models.size(), futures.size()).forEach(future -> future.cancel(true));
+        }
 
-        return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                .resourceModels(models)
-                .status(OperationStatus.SUCCESS)
-                .nextToken(response.nextToken())
-                .build();
+        summaries.subList(models.size(), summaries.size())
+                .forEach(stackSetSummary -> models.add(ResourceModel.builder()
+                        .stackSetId(stackSetSummary.stackSetId())
+                        .build()));
+        return models;
     }
 }
@@ -10,6 +10,7 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.stackset.translator.PropertyTranslator;
+import software.amazon.cloudformation.stackset.util.AdaptivePollingDelay;
 import software.amazon.cloudformation.stackset.util.StackInstancesPlaceHolder;
 
 import static software.amazon.cloudformation.stackset.translator.RequestTranslator.updateManagedExecutionRequest;
@@ -32,7 +33,7 @@ public class UpdateHandler extends BaseHandlerStd {
         final ResourceModel model = request.getDesiredResourceState();
         final ResourceModel previousModel = request.getPreviousResourceState();
         final StackInstancesPlaceHolder placeHolder = new StackInstancesPlaceHolder();
-        analyzeTemplate(proxyClient, request, placeHolder, Action.UPDATE);
+        analyzeTemplate(proxyClient, request, placeHolder, callbackContext, Action.UPDATE);
         // describe StackSet in case it is DELETED
         StackSet stackSet = describeStackSet(proxyClient, model.getStackSetId(), model.getCallAs(), logger);
 
@@ -69,9 +70,10 @@ public class UpdateHandler extends BaseHandlerStd {
         if (isStackSetConfigEquals(previousModel, desiredModel, handlerRequest.getPreviousResourceTags(), handlerRequest.getDesiredResourceTags())) {
             return ProgressEvent.progress(desiredModel, callbackContext);
         }
+        final AdaptivePollingDelay pollingDelay = operationPollingDelay();
         return proxy.initiate("AWS-CloudFormation-StackSet::UpdateStackSet", client, desiredModel, callbackContext)
                 .translateToServiceRequest(modelRequest -> updateStackSetRequest(modelRequest, handlerRequest.getDesiredResourceTags()))
-                .backoffDelay(MULTIPLE_OF)
+                .backoffDelay(pollingDelay)
                 .makeServiceCall((modelRequest, proxyInvocation) -> {
                     logger.log(String.format("%s [%s] UpdateStackSet request: [%s]",
                             ResourceModel.TYPE_NAME, previousModel.getStackSetId(), modelRequest));
@@ -79,7 +81,7 @@ public class UpdateHandler extends BaseHandlerStd {
                     logger.log(String.format("%s [%s] UpdateStackSet initiated", ResourceModel.TYPE_NAME, previousModel.getStackSetId()));
                     return response;
                 })
-                .stabilize((request, response, proxyInvocation, resourceModel, context) -> isOperationStabilized(proxyInvocation, resourceModel, response.operationId(), logger))
+                .stabilize((request, response, proxyInvocation, resourceModel, context) -> isOperationStabilized(proxyInvocation, resourceModel, response.operationId(), context, pollingDelay, logger))
                 .retryErrorFilter(this::filterException)
                 .progress();
     }
@@ -106,9 +108,10 @@ public class UpdateHandler extends BaseHandlerStd {
         if (isStackSetConfigEquals(PropertyTranslator.translateFromSdkManagedExecution(stackSet.managedExecution()), desiredModel.getManagedExecution())) {
             return ProgressEvent.progress(desiredModel, callbackContext);
         }
+        final AdaptivePollingDelay pollingDelay = operationPollingDelay();
         return proxy.initiate("AWS-CloudFormation-StackSet::UpdateManagedExecution", client, desiredModel, callbackContext)
                 .translateToServiceRequest(modelRequest -> updateManagedExecutionRequest(modelRequest))
-                .backoffDelay(MULTIPLE_OF)
+                .backoffDelay(pollingDelay)
                 .makeServiceCall((modelRequest, proxyInvocation) -> {
                     logger.log(String.format("%s [%s] UpdateManagedExecution request: [%s]",
                             ResourceModel.TYPE_NAME, previousModel.getStackSetId(), modelRequest));
@@ -116,7 +119,7 @@ public class UpdateHandler extends BaseHandlerStd {
                     logger.log(String.format("%s [%s] UpdateManagedExecution initiated", ResourceModel.TYPE_NAME, previousModel.getStackSetId()));
                     return response;
                 })
-                .stabilize((request, response, proxyInvocation, resourceModel, context) -> isOperationStabilized(proxyInvocation, resourceModel, response.operationId(), logger))
+                .stabilize((request, response, proxyInvocation, resourceModel, context) -> isOperationStabilized(proxyInvocation, resourceModel, response.operationId(), context, pollingDelay, logger))
                 .retryErrorFilter(this::filterException)
                 .progress();
     }
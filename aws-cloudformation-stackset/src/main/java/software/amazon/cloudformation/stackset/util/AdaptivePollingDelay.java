@@ -0,0 +1,75 @@
+package software.amazon.cloudformation.stackset.util;
+
+import software.amazon.awssdk.services.cloudformation.model.StackSetOperation;
+import software.amazon.cloudformation.proxy.delay.Delay;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * {@link Delay} that schedules the next poll of a StackSet operation at its expected completion time, as estimated by
+ * {@link StackSetOperationPoller}. Polls without a new estimate keep the last expected completion time, and the
+ * given delay is used while there is none, or once it has passed.
+ * <p>
+ * Handler invocations and call chains each build their own instance, so the timeout is measured from the creation
+ * time of the operation rather than from the delays handed out by this instance.
+ */
+public class AdaptivePollingDelay implements Delay {
+
+    public static final Duration MIN_DELAY = Duration.ofSeconds(2L);
+
+    public static final Duration MAX_DELAY = Duration.ofMinutes(5L);
+
+    private final Delay fallback;
+
+    private final Duration timeout;
+
+    private final Clock clock;
+
+    private Instant expectedCompletion;
+
+    private Instant operationCreatedAt;
+
+    public AdaptivePollingDelay(final Delay fallback, final Duration timeout) {
+        this(fallback, timeout, Clock.systemUTC());
+    }
+
+    public AdaptivePollingDelay(final Delay fallback, final Duration timeout, final Clock clock) {
+        this.fallback = fallback;
+        this.timeout = timeout;
+        this.clock = clock;
+    }
+
+    /**
+     * @param operation         {@link StackSetOperation} last polled
+     * @param expectedRemaining Expected time until the operation completes, null if not estimated by this poll
+     */
+    public void expect(final StackSetOperation operation, final Duration expectedRemaining) {
+        this.operationCreatedAt = operation.creationTimestamp();
+        if (expectedRemaining != null) {
+            this.expectedCompletion = clock.instant().plus(expectedRemaining);
+        }
+    }
+
+    @Override
+    public Duration nextDelay(final int attempt) {
+        if (operationCreatedAt != null
+                && Duration.between(operationCreatedAt, clock.instant()).compareTo(timeout) > 0) {
+            return Duration.ZERO;
+        }
+        if (expectedCompletion == null || !expectedCompletion.isAfter(clock.instant())) {
+            return fallback.nextDelay(attempt);
+        }
+        return clamp(Duration.between(clock.instant(), expectedCompletion));
+    }
+
+    /**
+     * @param expectedRemaining Expected time until the operation completes
+     * @return Delay within [{@link #MIN_DELAY}, {@link #MAX_DELAY}]
+     */
+    public static Duration clamp(final Duration expectedRemaining) {
+        if (expectedRemaining.compareTo(MIN_DELAY) < 0) return MIN_DELAY;
+        return expectedRemaining.compareTo(MAX_DELAY) > 0 ? MAX_DELAY : expectedRemaining;
+    }
+}
@@ -7,14 +7,19 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.Builder;
 import lombok.Data;
+import lombok.Value;
 import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.stackset.Parameter;
 import software.amazon.cloudformation.stackset.ResourceModel;
 import software.amazon.cloudformation.stackset.StackInstances;
+import software.amazon.cloudformation.stackset.util.OuFilterNormalizer.OuFilterState;
 
 import static software.amazon.cloudformation.stackset.util.Comparator.isAccountLevelTargetingEnabled;
 
@@ -22,9 +27,20 @@ import static software.amazon.cloudformation.stackset.util.Comparator.isAccountL
 @Data
 public class AltResourceModelAnalyzer {
 
+    /**
+     * Minimum number of shared regions for their calculations to be fanned out on the common fork-join pool
+     */
+    private static final int PARALLEL_REGIONS_THRESHOLD = 4;
+
     private ResourceModel previousModel;
     private ResourceModel currentModel;
 
+    /**
+     * If the shared regions are calculated in parallel
+     */
+    @Builder.Default
+    private boolean parallel = true;
+
     private final Set<StackInstances> stackInstancesToDelete = new LinkedHashSet<>();
     private final Set<StackInstances> stackInstancesToCreate = new LinkedHashSet<>();
     private final Set<StackInstances> stackInstancesToUpdate = new LinkedHashSet<>();
@@ -35,6 +51,10 @@ public class AltResourceModelAnalyzer {
     * 1. For the regions only appear in previous model -- all the associated instances should be deleted
     * 2. For the regions only appear in current model -- all the associated instances should be created
     * 3. Further comparison will be done for the regions shared in two models by calling AltStackInstancesCalculator
+    *    The shared regions are independent, so they are calculated in parallel into their own sets, which are merged
+    *    back in region order to keep the RegionOrder of the operations
+    *    The OU filters are normalized once per distinct set of DeploymentTargets, and the targets once per pair of
+    *    previous and current OU filter states, by OuFilterNormalizer, then copied to each region
     * */
     public void analyze(final StackInstancesPlaceHolder placeHolder) {
         Set<StackInstances> previousStackInstancesGroup = previousModel == null ?
@@ -69,16 +89,24 @@ public class AltResourceModelAnalyzer {
 
         HashMap<String, Set<Parameter>> ouDeploymentParametersMap = findDeploymentParametersForOUs(currentStackInstancesByRegion);
 
-        setInter(currentRegions, previousRegions).forEach(
-                region -> new AltStackInstancesCalculator(region,
-                        previousStackInstancesByRegion.get(region),
-                        currentStackInstancesByRegion.get(region))
-                        .calculate(
-                                stackInstancesToDelete,
-                                stackInstancesToCreate,
-                                stackInstancesToUpdate,
-                                ouDeploymentParametersMap)
-        );
+        Set<String> sharedRegions = setInter(currentRegions, previousRegions);
+        Stream<String> sharedRegionStream = parallel && sharedRegions.size() >= PARALLEL_REGIONS_THRESHOLD ?
+                sharedRegions.parallelStream() : sharedRegions.stream();
+
+        OuFilterNormalizer normalizer = new OuFilterNormalizer();
+        List<RegionChanges> regionChanges = sharedRegionStream
+                .map(region -> RegionChanges.calculate(region,
+                        normalizer.normalize(previousStackInstancesByRegion.get(region)),
+                        normalizer.normalize(currentStackInstancesByRegion.get(region)),
+                        normalizer,
+                        ouDeploymentParametersMap))
+                .collect(Collectors.toList());
+
+        regionChanges.forEach(changes -> {
+            stackInstancesToDelete.addAll(changes.getStackInstancesToDelete());
+            stackInstancesToCreate.addAll(changes.getStackInstancesToCreate());
+            stackInstancesToUpdate.addAll(changes.getStackInstancesToUpdate());
+        });
 
         placeHolder.setCreateStackInstances(new ArrayList<>(stackInstancesToCreate));
         placeHolder.setDeleteStackInstances(new ArrayList<>(stackInstancesToDelete));
@@ -151,6 +179,30 @@ public class AltResourceModelAnalyzer {
         return stackInstancesGroupsByRegionOrder;
     }
 
+    /*
+     * StackInstances to delete, create, and update in one shared region
+     * */
+    @Value
+    private static class RegionChanges {
+        Set<StackInstances> stackInstancesToDelete = new LinkedHashSet<>();
+        Set<StackInstances> stackInstancesToCreate = new LinkedHashSet<>();
+        Set<StackInstances> stackInstancesToUpdate = new LinkedHashSet<>();
+
+        private static RegionChanges calculate(final String region,
+                                               final OuFilterState previousOuFilterState,
+                                               final OuFilterState currentOuFilterState,
+                                               final OuFilterNormalizer normalizer,
+                                               final HashMap<String, Set<Parameter>> ouDeploymentParametersMap) {
+            RegionChanges changes = new RegionChanges();
+            normalizer.targetChanges(previousOuFilterState, currentOuFilterState, ouDeploymentParametersMap)
+                    .addTo(region,
+                            changes.getStackInstancesToDelete(),
+                            changes.getStackInstancesToCreate(),
+                            changes.getStackInstancesToUpdate());
+            return changes;
+        }
+    }
+
     public static Set<String> setDiff(Set<String> A, Set<String> B) {
         Set<String> resultSet = new LinkedHashSet<>(A);
         resultSet.removeAll(B);
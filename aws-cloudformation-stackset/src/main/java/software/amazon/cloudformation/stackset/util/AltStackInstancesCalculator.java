@@ -1,17 +1,18 @@
 package software.amazon.cloudformation.stackset.util;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 import lombok.Data;
+import lombok.Getter;
 import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.cloudformation.stackset.DeploymentTargets;
 import software.amazon.cloudformation.stackset.Parameter;
 import software.amazon.cloudformation.stackset.StackInstances;
+import software.amazon.cloudformation.stackset.util.OuFilterNormalizer.OuFilterState;
 import static software.amazon.cloudformation.stackset.util.AltResourceModelAnalyzer.setDiff;
 import static software.amazon.cloudformation.stackset.util.AltResourceModelAnalyzer.setInter;
 import static software.amazon.cloudformation.stackset.util.AltResourceModelAnalyzer.setUnion;
@@ -21,14 +22,8 @@ public class AltStackInstancesCalculator {
 
     private final String region;
 
-    private final Set<StackInstances> previousStackInstancesGroup;
-    private final Set<StackInstances> currentStackInstancesGroup;
-
-    private final Set<String> previousOUs;
-    private final Set<String> currentOUs;
-
-    private final HashMap<List<String>, Set<String>> previousStackInstancesByOuFilter;
-    private final HashMap<List<String>, Set<String>> currentStackInstancesByOuFilter;
+    private final OuFilterState previousOuFilterState;
+    private final OuFilterState currentOuFilterState;
 
     private final static String NONE = "NONE";
     private final static String INTER = "INTERSECTION";
@@ -37,37 +32,55 @@ public class AltStackInstancesCalculator {
     /*
     * The class compares the StackInstances from previous and current models in one region.
     * Process steps:
-    * 1. Process the StackInstancesGroup for previous and current models, separately:
+    * 1. Process the StackInstancesGroup for previous and current models, separately -- OuFilterNormalizer:
     * 1.1 For each OU, merge all the targets with same ALT filters  (e.g., merge all the INTERs to one INTER) -- mergeSameFilters()
     * 1.2 For each OU, merge all the targets with different ALT filters (e.g., merge INTER and DIFF) -- mergeDifferentFilters()
     * 2. Compare the previous and current StackInstancesGroup to calculate the targets to delete, create, and delete
     * 2.1 the comparison is done by constructTargetSetForSharedOu(), which list all nine possible cases (three types of filter x three types of filter)
+    * 2.2 the targets do not depend on the region, so they can be shared by the regions with the same OU filter states -- calculateTargets()
     * */
 
     public AltStackInstancesCalculator (String region, Set<StackInstances> previousStackInstancesGroup, Set<StackInstances> currentStackInstancesGroup) {
+        this(region, OuFilterState.of(previousStackInstancesGroup), OuFilterState.of(currentStackInstancesGroup));
+    }
+
+    public AltStackInstancesCalculator (String region, OuFilterState previousOuFilterState, OuFilterState currentOuFilterState) {
         this.region = region;
-        this.previousStackInstancesGroup = previousStackInstancesGroup;
-        this.currentStackInstancesGroup = currentStackInstancesGroup;
-        this.previousOUs = findAllOus(previousStackInstancesGroup);
-        this.currentOUs = findAllOus(currentStackInstancesGroup);
-        this.previousStackInstancesByOuFilter = mergeDifferentFilters(mergeSameFilters(previousStackInstancesGroup));
-        this.currentStackInstancesByOuFilter = mergeDifferentFilters(mergeSameFilters(currentStackInstancesGroup));
+        this.previousOuFilterState = previousOuFilterState;
+        this.currentOuFilterState = currentOuFilterState;
     }
 
     public void calculate (Set<StackInstances> instancesToDelete, Set<StackInstances> instancesToCreate, Set<StackInstances> instancesToUpdate, HashMap<String, Set<Parameter>> ouDeploymentParametersMap) {
+        calculateTargets(previousOuFilterState, currentOuFilterState, ouDeploymentParametersMap)
+                .addTo(region, instancesToDelete, instancesToCreate, instancesToUpdate);
+    }
+
+    /**
+     * @param previousOuFilterState     {@link OuFilterState} of the previous model in a region
+     * @param currentOuFilterState      {@link OuFilterState} of the current model in a region
+     * @param ouDeploymentParametersMap Parameters of each OU in the current model
+     * @return Targets to delete, create and update, without region
+     */
+    public static TargetChanges calculateTargets (OuFilterState previousOuFilterState, OuFilterState currentOuFilterState, HashMap<String, Set<Parameter>> ouDeploymentParametersMap) {
+        final Set<String> previousOUs = previousOuFilterState.getOus();
+        final Set<String> currentOUs = currentOuFilterState.getOus();
+        final HashMap<OuFilterKey, Set<String>> previousStackInstancesByOuFilter = previousOuFilterState.getAccountsByOuFilter();
+        final HashMap<OuFilterKey, Set<String>> currentStackInstancesByOuFilter = currentOuFilterState.getAccountsByOuFilter();
+        final TargetChanges targetChanges = new TargetChanges();
+
         setDiff(previousOUs, currentOUs).forEach(ou -> {
             String filter = getFilterType(ou, previousStackInstancesByOuFilter);
-            Set<String> accounts = previousStackInstancesByOuFilter.get(Arrays.asList(ou, filter));
+            Set<String> accounts = previousStackInstancesByOuFilter.get(new OuFilterKey(ou, filter));
             DeploymentTargets targets = constructDeploymentTargets(ou, accounts, filter);
-            addToInstancesSet(targets, instancesToDelete);
+            addToInstancesList(targets, targetChanges.getStackInstancesToDelete(), null);
         });
 
         setDiff(currentOUs, previousOUs).forEach(ou -> {
             String filter = getFilterType(ou, currentStackInstancesByOuFilter);
-            Set<String> accounts = currentStackInstancesByOuFilter.get(Arrays.asList(ou, filter));
+            Set<String> accounts = currentStackInstancesByOuFilter.get(new OuFilterKey(ou, filter));
             DeploymentTargets targets = constructDeploymentTargets(ou, accounts, filter);
             Set<Parameter> parameters = ouDeploymentParametersMap.get(ou);
-            addToInstancesSet(targets, instancesToCreate, parameters);
+            addToInstancesList(targets, targetChanges.getStackInstancesToCreate(), parameters);
         });
 
         setInter(currentOUs, previousOUs).forEach(ou -> {
@@ -75,99 +88,51 @@ public class AltStackInstancesCalculator {
             Set<DeploymentTargets> deleteTargetSet = new HashSet<>();
             Set<DeploymentTargets> createTargetSet = new HashSet<>();
             Set<DeploymentTargets> updateTargetSet = new HashSet<>();
-            constructTargetSetForSharedOu(ou, deleteTargetSet, createTargetSet, updateTargetSet);
-            deleteTargetSet.forEach(targets -> addToInstancesSet(targets, instancesToDelete));
-            createTargetSet.forEach(targets -> addToInstancesSet(targets, instancesToCreate, parameters));
-            updateTargetSet.forEach(targets -> addToInstancesSet(targets, instancesToUpdate, parameters));
-        });
-    }
-
-    private static Set<String> findAllOus(final Set<StackInstances> stackInstancesGroup) {
-        final HashSet<String> OUs = new HashSet<>();
-        stackInstancesGroup.forEach(stackInstances -> {
-            OUs.addAll(stackInstances.getDeploymentTargets().getOrganizationalUnitIds());
+            constructTargetSetForSharedOu(ou, previousStackInstancesByOuFilter, currentStackInstancesByOuFilter,
+                    deleteTargetSet, createTargetSet, updateTargetSet);
+            deleteTargetSet.forEach(targets -> addToInstancesList(targets, targetChanges.getStackInstancesToDelete(), null));
+            createTargetSet.forEach(targets -> addToInstancesList(targets, targetChanges.getStackInstancesToCreate(), parameters));
+            updateTargetSet.forEach(targets -> addToInstancesList(targets, targetChanges.getStackInstancesToUpdate(), parameters));
         });
-        return OUs;
+        return targetChanges;
     }
 
-    private static HashMap<List<String>, Set<String>> mergeSameFilters (final Set<StackInstances> stackInstancesGroup) {
-        final HashMap<List<String>, Set<String>> ouFilterAccountsMap = new HashMap<>();
-
-        stackInstancesGroup.forEach(stackInstances -> {
-            DeploymentTargets deploymentTargets = stackInstances.getDeploymentTargets();
-            final Set<String> ous = deploymentTargets.getOrganizationalUnitIds();
-            final Set<String> accounts = CollectionUtils.isNullOrEmpty(deploymentTargets.getAccounts()) ?
-                    new HashSet<>() : deploymentTargets.getAccounts();
-            String filter = deploymentTargets.getAccountFilterType() == null ?
-                    NONE : deploymentTargets.getAccountFilterType();
-
-            for (final String ou : ous) {
-                final List<String> compositeKey = Arrays.asList(ou, filter);
-                if (!ouFilterAccountsMap.containsKey(compositeKey)) {
-                    ouFilterAccountsMap.put(compositeKey, new HashSet<>(accounts));
-                    continue;
-                }
-                /*
-                 * NONE: only allows empty account, so no need to add repeatedly
-                 * INTER: take the union of all account sets
-                 * DIFF: take the intersection of all account sets
-                 * */
-                switch (filter) {
-                    case NONE:
-                        break;
-                    case INTER:
-                        ouFilterAccountsMap.get(compositeKey).addAll(accounts);
-                        break;
-                    case DIFF:
-                        ouFilterAccountsMap.get(compositeKey).retainAll(accounts);
-                        break;
-                }
-            }
-        });
-        return ouFilterAccountsMap;
-    }
-
-    private static HashMap<List<String>, Set<String>> mergeDifferentFilters (HashMap<List<String>, Set<String>> ouFilterAccountsMap) {
-        final HashMap<List<String>, Set<String>> mergedOuFilterAccountsMap = new HashMap<>();
-        final Set<String> ous = ouFilterAccountsMap.keySet()
-                .stream()
-                .map(it -> it.get(0))
-                .collect(Collectors.toSet());
-
-        for (final String ou : ous) {
-            List<String> noneCompositeKey = Arrays.asList(ou, NONE);
-            List<String> interCompositeKey = Arrays.asList(ou, INTER);
-            List<String> diffCompositeKey = Arrays.asList(ou, DIFF);
+    /**
+     * StackInstances to delete, create and update without region, which share their DeploymentTargets with the
+     * StackInstances added to each region
+     */
+    @Getter
+    public static class TargetChanges {
+        private final List<StackInstances> stackInstancesToDelete = new ArrayList<>();
+        private final List<StackInstances> stackInstancesToCreate = new ArrayList<>();
+        private final List<StackInstances> stackInstancesToUpdate = new ArrayList<>();
+
+        public void addTo(String region, Set<StackInstances> instancesToDelete, Set<StackInstances> instancesToCreate, Set<StackInstances> instancesToUpdate) {
+            stackInstancesToDelete.forEach(stackInstances -> instancesToDelete.add(withRegion(region, stackInstances)));
+            stackInstancesToCreate.forEach(stackInstances -> instancesToCreate.add(withRegion(region, stackInstances)));
+            stackInstancesToUpdate.forEach(stackInstances -> instancesToUpdate.add(withRegion(region, stackInstances)));
+        }
 
-            /*
-             *  NONE: if a NONE filter appears, the OU itself is the deployment target
-             *  INTER only : no change needed
-             *  DIFF only : no change needed
-             *  Both INTER and DIFF: equivalent to OU - (diffSet - interSet), where diffSet and interSet are account sets
-             * */
-            if (ouFilterAccountsMap.containsKey(noneCompositeKey)) {
-                mergedOuFilterAccountsMap.put(noneCompositeKey, ouFilterAccountsMap.get(noneCompositeKey));
-            } else if (ouFilterAccountsMap.containsKey(interCompositeKey) && !ouFilterAccountsMap.containsKey(diffCompositeKey)) {
-                mergedOuFilterAccountsMap.put(interCompositeKey, ouFilterAccountsMap.get(interCompositeKey));
-            } else if (!ouFilterAccountsMap.containsKey(interCompositeKey) && ouFilterAccountsMap.containsKey(diffCompositeKey)) {
-                mergedOuFilterAccountsMap.put(diffCompositeKey, ouFilterAccountsMap.get(diffCompositeKey));
-            } else {
-                mergedOuFilterAccountsMap.put(diffCompositeKey,
-                        setDiff(ouFilterAccountsMap.get(diffCompositeKey), ouFilterAccountsMap.get(interCompositeKey)));
-            }
+        private static StackInstances withRegion(String region, StackInstances stackInstances) {
+            return StackInstances.builder()
+                    .regions(Collections.singleton(region))
+                    .deploymentTargets(stackInstances.getDeploymentTargets())
+                    .parameterOverrides(stackInstances.getParameterOverrides())
+                    .build();
         }
-        return mergedOuFilterAccountsMap;
     }
 
-    private void constructTargetSetForSharedOu (final String ou,
+    private static void constructTargetSetForSharedOu (final String ou,
+                                                final HashMap<OuFilterKey, Set<String>> previousStackInstancesByOuFilter,
+                                                final HashMap<OuFilterKey, Set<String>> currentStackInstancesByOuFilter,
                                                 Set<DeploymentTargets> deleteTargetSet,
                                                 Set<DeploymentTargets> createTargetSet,
                                                 Set<DeploymentTargets> updateTargetSet) {
 
         final String previousFilter = getFilterType(ou, previousStackInstancesByOuFilter);
         final String currentFilter = getFilterType(ou, currentStackInstancesByOuFilter);
-        final Set<String> previousAccountSet = previousStackInstancesByOuFilter.get(Arrays.asList(ou, previousFilter));
-        final Set<String> currentAccountSet = currentStackInstancesByOuFilter.get(Arrays.asList(ou, currentFilter));
+        final Set<String> previousAccountSet = previousStackInstancesByOuFilter.get(new OuFilterKey(ou, previousFilter));
+        final Set<String> currentAccountSet = currentStackInstancesByOuFilter.get(new OuFilterKey(ou, currentFilter));
 
         switch (previousFilter) {
             case NONE:
@@ -224,10 +189,10 @@ public class AltStackInstancesCalculator {
         }
     }
 
-    private static String getFilterType(String ou, HashMap<List<String>, Set<String>> ouFilterAccountsMap) {
+    private static String getFilterType(String ou, HashMap<OuFilterKey, Set<String>> ouFilterAccountsMap) {
 
-        List<String> noneCompositeKey = Arrays.asList(ou, NONE);
-        List<String> interCompositeKey = Arrays.asList(ou, INTER);
+        OuFilterKey noneCompositeKey = new OuFilterKey(ou, NONE);
+        OuFilterKey interCompositeKey = new OuFilterKey(ou, INTER);
 
         if (ouFilterAccountsMap.containsKey(noneCompositeKey)) {
             return NONE;
@@ -243,24 +208,7 @@ public class AltStackInstancesCalculator {
      * 1. If filter is INTER, no instance should be deployed in OUs
      * 2. If filter is DIFF, all instances should be deployed in OUs
      * */
-    private void addToInstancesSet(DeploymentTargets targets, Set<StackInstances> instancesSet) {
-        String filter = targets.getAccountFilterType();
-        Set<String> accounts = targets.getAccounts();
-        if (CollectionUtils.isNullOrEmpty(accounts)) {
-            if (filter.equals(INTER)) {
-                return;
-            } else if (filter.equals(DIFF)) {
-                filter = NONE;
-            }
-        }
-
-        instancesSet.add(constructStackInstances(region, DeploymentTargets.builder()
-                .organizationalUnitIds(targets.getOrganizationalUnitIds())
-                .accounts(targets.getAccounts())
-                .accountFilterType(filter).build()));
-    }
-
-    private void addToInstancesSet(DeploymentTargets targets, Set<StackInstances> instancesSet, Set<Parameter> parameters) {
+    private static void addToInstancesList(DeploymentTargets targets, List<StackInstances> instancesList, Set<Parameter> parameters) {
         String filter = targets.getAccountFilterType();
         Set<String> accounts = targets.getAccounts();
         if (CollectionUtils.isNullOrEmpty(accounts)) {
@@ -271,28 +219,13 @@ public class AltStackInstancesCalculator {
             }
         }
 
-        instancesSet.add(constructStackInstances(
-                        region,
-                        DeploymentTargets.builder()
+        instancesList.add(StackInstances.builder()
+                .deploymentTargets(DeploymentTargets.builder()
                         .organizationalUnitIds(targets.getOrganizationalUnitIds())
                         .accounts(targets.getAccounts())
-                        .accountFilterType(filter).build(),
-                parameters));
-    }
-
-    private static StackInstances constructStackInstances (String region, DeploymentTargets targets, Set<Parameter> parameters) {
-        return StackInstances.builder()
-                .regions(Collections.singleton(region))
-                .deploymentTargets(targets)
+                        .accountFilterType(filter).build())
                 .parameterOverrides(parameters)
-                .build();
-    }
-
-    private static StackInstances constructStackInstances (String region, DeploymentTargets targets) {
-        return StackInstances.builder()
-                .regions(Collections.singleton(region))
-                .deploymentTargets(targets)
-                .build();
+                .build());
     }
 
     private static DeploymentTargets constructDeploymentTargets (String ou) {
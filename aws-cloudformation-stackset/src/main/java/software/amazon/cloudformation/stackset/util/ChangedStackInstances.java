@@ -0,0 +1,87 @@
+package software.amazon.cloudformation.stackset.util;
+
+import lombok.Value;
+import software.amazon.awssdk.utils.CollectionUtils;
+import software.amazon.cloudformation.stackset.StackInstances;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@link StackInstances} entries that differ between the previous and desired StackInstancesGroups.
+ * <p>
+ * Entries present in both groups with the same regions, deployment targets and parameter overrides cannot create,
+ * delete or update any stack instance, so only the changed entries need to be diffed. This only holds while no
+ * changed entry shares a (target, region) pair with an unchanged entry, otherwise the full groups are diffed, so
+ * that duplicated stack instances are still reported.
+ */
+@Value
+public class ChangedStackInstances {
+
+    List<StackInstances> previousEntries;
+
+    List<StackInstances> desiredEntries;
+
+    /**
+     * @param previousGroup previous {@link software.amazon.cloudformation.stackset.ResourceModel#getStackInstancesGroup()}
+     * @param desiredGroup  desired {@link software.amazon.cloudformation.stackset.ResourceModel#getStackInstancesGroup()}
+     * @param isSelfManaged if deployment targets are accounts, otherwise OrganizationalUnitIds
+     * @return Changed entries of both groups, null if the full groups need to be diffed
+     */
+    public static ChangedStackInstances of(
+            final Collection<StackInstances> previousGroup,
+            final Collection<StackInstances> desiredGroup,
+            final boolean isSelfManaged) {
+
+        if (CollectionUtils.isNullOrEmpty(previousGroup) || CollectionUtils.isNullOrEmpty(desiredGroup)) return null;
+
+        final Set<StackInstances> previousEntries = new HashSet<>(previousGroup);
+        final List<StackInstances> unchangedEntries = new ArrayList<>();
+        final List<StackInstances> changedDesiredEntries = new ArrayList<>();
+        for (final StackInstances stackInstances : desiredGroup) {
+            if (previousEntries.remove(stackInstances)) {
+                unchangedEntries.add(stackInstances);
+            } else {
+                changedDesiredEntries.add(stackInstances);
+            }
+        }
+        if (unchangedEntries.isEmpty()) return null;
+
+        final List<StackInstances> changedPreviousEntries = new ArrayList<>(previousEntries);
+        final Set<String> changedTargets = new HashSet<>();
+        final Set<String> changedRegions = new HashSet<>();
+        for (final StackInstances stackInstances : concat(changedPreviousEntries, changedDesiredEntries)) {
+            final Set<String> targets = getTargets(stackInstances, isSelfManaged);
+            if (targets != null) changedTargets.addAll(targets);
+            if (stackInstances.getRegions() != null) changedRegions.addAll(stackInstances.getRegions());
+        }
+
+        // Unchanged entries sharing targets and regions with changed entries may hold the same stack instances
+        for (final StackInstances stackInstances : unchangedEntries) {
+            final Set<String> targets = getTargets(stackInstances, isSelfManaged);
+            if (CollectionUtils.isNullOrEmpty(targets) || stackInstances.getRegions() == null) return null;
+            if (!Collections.disjoint(targets, changedTargets)
+                    && !Collections.disjoint(stackInstances.getRegions(), changedRegions)) {
+                return null;
+            }
+        }
+        return new ChangedStackInstances(changedPreviousEntries, changedDesiredEntries);
+    }
+
+    private static List<StackInstances> concat(final List<StackInstances> first, final List<StackInstances> second) {
+        final List<StackInstances> all = new ArrayList<>(first.size() + second.size());
+        all.addAll(first);
+        all.addAll(second);
+        return all;
+    }
+
+    private static Set<String> getTargets(final StackInstances stackInstances, final boolean isSelfManaged) {
+        if (stackInstances.getDeploymentTargets() == null) return null;
+        return isSelfManaged ? stackInstances.getDeploymentTargets().getAccounts()
+                : stackInstances.getDeploymentTargets().getOrganizationalUnitIds();
+    }
+}
@@ -0,0 +1,16 @@
+package software.amazon.cloudformation.stackset.util;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+
+/**
+ * Immutable (OU, account filter type) key of the accounts of an OU, with a cached hash code
+ */
+@Value
+@EqualsAndHashCode(cacheStrategy = EqualsAndHashCode.CacheStrategy.LAZY)
+public class OuFilterKey {
+
+    String ou;
+
+    String filter;
+}
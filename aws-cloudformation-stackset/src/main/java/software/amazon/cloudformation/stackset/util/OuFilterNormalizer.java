@@ -0,0 +1,164 @@
+package software.amazon.cloudformation.stackset.util;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import software.amazon.awssdk.utils.CollectionUtils;
+import software.amazon.cloudformation.stackset.DeploymentTargets;
+import software.amazon.cloudformation.stackset.Parameter;
+import software.amazon.cloudformation.stackset.StackInstances;
+import software.amazon.cloudformation.stackset.util.AltStackInstancesCalculator.TargetChanges;
+
+import static software.amazon.cloudformation.stackset.util.AltResourceModelAnalyzer.setDiff;
+
+/**
+ * Normalizes the ALT filters of the StackInstances of a region once per model.
+ * <p>
+ * The StackInstances of a region only differ from the other regions by the region itself, so regions that are
+ * deployed to the same DeploymentTargets share one {@link OuFilterState}, and pairs of previous and current states
+ * share the {@link TargetChanges} calculated from them. A normalizer is created for each analysis, and its caches
+ * are safe to use from the parallel region calculations of {@link AltResourceModelAnalyzer}.
+ */
+public class OuFilterNormalizer {
+
+    private final static String NONE = "NONE";
+    private final static String INTER = "INTERSECTION";
+    private final static String DIFF = "DIFFERENCE";
+
+    private final Map<Set<DeploymentTargets>, OuFilterState> states = new ConcurrentHashMap<>();
+
+    // Target changes by previous state, then by current state, states are compared by identity
+    private final Map<OuFilterState, Map<OuFilterState, TargetChanges>> targetChanges = new ConcurrentHashMap<>();
+
+    /**
+     * @param stackInstancesGroup StackInstances of one region
+     * @return Normalized OU filters, shared with the regions deployed to the same DeploymentTargets
+     */
+    public OuFilterState normalize(final Set<StackInstances> stackInstancesGroup) {
+        final Set<DeploymentTargets> deploymentTargets = stackInstancesGroup.stream()
+                .map(StackInstances::getDeploymentTargets)
+                .collect(Collectors.toSet());
+        return states.computeIfAbsent(deploymentTargets, key -> OuFilterState.of(stackInstancesGroup));
+    }
+
+    /**
+     * @param previousState             {@link OuFilterState} returned by {@link #normalize} for the previous model
+     * @param currentState              {@link OuFilterState} returned by {@link #normalize} for the current model
+     * @param ouDeploymentParametersMap Parameters of each OU in the current model
+     * @return Region independent targets to delete, create and update, shared by the regions with the same states
+     */
+    public TargetChanges targetChanges(final OuFilterState previousState,
+                                       final OuFilterState currentState,
+                                       final HashMap<String, Set<Parameter>> ouDeploymentParametersMap) {
+        return targetChanges.computeIfAbsent(previousState, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(currentState,
+                        key -> AltStackInstancesCalculator.calculateTargets(previousState, currentState, ouDeploymentParametersMap));
+    }
+
+    /**
+     * OUs of the StackInstances of a region, and the accounts of each OU keyed by (OU, filter) once all the ALT
+     * filters of the OU are merged into one. States are compared by identity, and must not be modified.
+     */
+    @Getter
+    public static class OuFilterState {
+
+        private final Set<String> ous;
+
+        private final HashMap<OuFilterKey, Set<String>> accountsByOuFilter;
+
+        private OuFilterState(final Set<String> ous, final HashMap<OuFilterKey, Set<String>> accountsByOuFilter) {
+            this.ous = ous;
+            this.accountsByOuFilter = accountsByOuFilter;
+        }
+
+        /**
+         * @param stackInstancesGroup StackInstances of one region
+         * @return {@link OuFilterState} of the StackInstances, without caching
+         */
+        public static OuFilterState of(final Set<StackInstances> stackInstancesGroup) {
+            return new OuFilterState(findAllOus(stackInstancesGroup),
+                    mergeDifferentFilters(mergeSameFilters(stackInstancesGroup)));
+        }
+    }
+
+    private static Set<String> findAllOus(final Set<StackInstances> stackInstancesGroup) {
+        final HashSet<String> OUs = new HashSet<>();
+        stackInstancesGroup.forEach(stackInstances -> {
+            OUs.addAll(stackInstances.getDeploymentTargets().getOrganizationalUnitIds());
+        });
+        return OUs;
+    }
+
+    private static HashMap<OuFilterKey, Set<String>> mergeSameFilters (final Set<StackInstances> stackInstancesGroup) {
+        final HashMap<OuFilterKey, Set<String>> ouFilterAccountsMap = new HashMap<>();
+
+        stackInstancesGroup.forEach(stackInstances -> {
+            DeploymentTargets deploymentTargets = stackInstances.getDeploymentTargets();
+            final Set<String> ous = deploymentTargets.getOrganizationalUnitIds();
+            final Set<String> accounts = CollectionUtils.isNullOrEmpty(deploymentTargets.getAccounts()) ?
+                    new HashSet<>() : deploymentTargets.getAccounts();
+            String filter = deploymentTargets.getAccountFilterType() == null ?
+                    NONE : deploymentTargets.getAccountFilterType();
+
+            for (final String ou : ous) {
+                final OuFilterKey compositeKey = new OuFilterKey(ou, filter);
+                if (!ouFilterAccountsMap.containsKey(compositeKey)) {
+                    ouFilterAccountsMap.put(compositeKey, new HashSet<>(accounts));
+                    continue;
+                }
+                /*
+                 * NONE: only allows empty account, so no need to add repeatedly
+                 * INTER: take the union of all account sets
+                 * DIFF: take the intersection of all account sets
+                 * */
+                switch (filter) {
+                    case NONE:
+                        break;
+                    case INTER:
+                        ouFilterAccountsMap.get(compositeKey).addAll(accounts);
+                        break;
+                    case DIFF:
+                        ouFilterAccountsMap.get(compositeKey).retainAll(accounts);
+                        break;
+                }
+            }
+        });
+        return ouFilterAccountsMap;
+    }
+
+    private static HashMap<OuFilterKey, Set<String>> mergeDifferentFilters (HashMap<OuFilterKey, Set<String>> ouFilterAccountsMap) {
+        final HashMap<OuFilterKey, Set<String>> mergedOuFilterAccountsMap = new HashMap<>();
+        final Set<String> ous = ouFilterAccountsMap.keySet()
+                .stream()
+                .map(OuFilterKey::getOu)
+                .collect(Collectors.toSet());
+
+        for (final String ou : ous) {
+            OuFilterKey noneCompositeKey = new OuFilterKey(ou, NONE);
+            OuFilterKey interCompositeKey = new OuFilterKey(ou, INTER);
+            OuFilterKey diffCompositeKey = new OuFilterKey(ou, DIFF);
+
+            /*
+             *  NONE: if a NONE filter appears, the OU itself is the deployment target
+             *  INTER only : no change needed
+             *  DIFF only : no change needed
+             *  Both INTER and DIFF: equivalent to OU - (diffSet - interSet), where diffSet and interSet are account sets
+             * */
+            if (ouFilterAccountsMap.containsKey(noneCompositeKey)) {
+                mergedOuFilterAccountsMap.put(noneCompositeKey, ouFilterAccountsMap.get(noneCompositeKey));
+            } else if (ouFilterAccountsMap.containsKey(interCompositeKey) && !ouFilterAccountsMap.containsKey(diffCompositeKey)) {
+                mergedOuFilterAccountsMap.put(interCompositeKey, ouFilterAccountsMap.get(interCompositeKey));
+            } else if (!ouFilterAccountsMap.containsKey(interCompositeKey) && ouFilterAccountsMap.containsKey(diffCompositeKey)) {
+                mergedOuFilterAccountsMap.put(diffCompositeKey, ouFilterAccountsMap.get(diffCompositeKey));
+            } else {
+                mergedOuFilterAccountsMap.put(diffCompositeKey,
+                        setDiff(ouFilterAccountsMap.get(diffCompositeKey), ouFilterAccountsMap.get(interCompositeKey)));
+            }
+        }
+        return mergedOuFilterAccountsMap;
+    }
+}
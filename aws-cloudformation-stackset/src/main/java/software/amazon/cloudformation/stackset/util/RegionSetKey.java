@@ -0,0 +1,29 @@
+package software.amazon.cloudformation.stackset.util;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Value;
+
+import java.util.BitSet;
+
+/**
+ * Immutable (region set, parameter overrides id) key of a group of deployment targets, with a cached hash code.
+ * <p>
+ * The region set holds the ids of a {@link SymbolTable} of regions, and is copied so that later changes to the
+ * original {@link BitSet} cannot change the key.
+ */
+@Value
+@EqualsAndHashCode(cacheStrategy = EqualsAndHashCode.CacheStrategy.LAZY)
+public class RegionSetKey {
+
+    @Getter(AccessLevel.NONE)
+    BitSet regions;
+
+    int parameterId;
+
+    public RegionSetKey(final BitSet regions, final int parameterId) {
+        this.regions = (BitSet) regions.clone();
+        this.parameterId = parameterId;
+    }
+}
@@ -12,6 +12,10 @@ import software.amazon.cloudformation.stackset.StackInstances;
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static software.amazon.cloudformation.stackset.translator.PropertyTranslator.translateFromSdkAutoDeployment;
 import static software.amazon.cloudformation.stackset.translator.PropertyTranslator.translateFromSdkManagedExecution;
@@ -19,7 +23,6 @@ import static software.amazon.cloudformation.stackset.translator.PropertyTransla
 import static software.amazon.cloudformation.stackset.translator.PropertyTranslator.translateFromSdkTags;
 import static software.amazon.cloudformation.stackset.translator.PropertyTranslator.translateToStackInstance;
 import static software.amazon.cloudformation.stackset.translator.RequestTranslator.listStackInstancesRequest;
-import static software.amazon.cloudformation.stackset.util.InstancesAnalyzer.aggregateStackInstances;
 
 /**
  * Utility class to construct {@link ResourceModel} for Read/List request based on {@link StackSet}
@@ -29,6 +32,15 @@ import static software.amazon.cloudformation.stackset.util.InstancesAnalyzer.agg
 @Builder
 public class ResourceModelBuilder {
 
+    private static final int MAX_CONCURRENT_PAGES = 8;
+
+    // Shared by every model built in this process, so concurrent List and Read requests cannot multiply threads
+    private static final ExecutorService PAGE_EXECUTOR = Executors.newFixedThreadPool(MAX_CONCURRENT_PAGES, runnable -> {
+        final Thread thread = new Thread(runnable, "AWS-CloudFormation-StackSet-ListStackInstances");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private ProxyClient<CloudFormationClient> proxyClient;
     private StackSet stackSet;
     private boolean isSelfManaged;
@@ -68,16 +80,13 @@ public class ResourceModelBuilder {
             model.setExecutionRoleName(stackSet.executionRoleName());
         }
 
-        String token = null;
-        final Set<StackInstance> stackInstanceSet = new HashSet<>();
+        final StackInstancesAggregator aggregator = new StackInstancesAggregator(isSelfManaged);
         // Retrieves all Stack Instances associated with the StackSet,
         // Attaches regions and deploymentTargets to the constructing model
-        do {
-            token = attachStackInstances(stackSetId, isSelfManaged, stackInstanceSet, callAs, token);
-        } while (token != null);
+        attachStackInstances(stackSetId, isSelfManaged, aggregator, callAs);
 
-        if (!stackInstanceSet.isEmpty()) {
-            final Set<StackInstances> stackInstancesGroup = aggregateStackInstances(stackInstanceSet, isSelfManaged);
+        final Set<StackInstances> stackInstancesGroup = aggregator.aggregate();
+        if (!stackInstancesGroup.isEmpty()) {
             model.setStackInstancesGroup(stackInstancesGroup);
         }
 
@@ -86,29 +95,61 @@ public class ResourceModelBuilder {
 
     /**
      * Loop through all stack instance details and attach to the constructing model
+     * <p>
+     * The next page is fetched on {@link #PAGE_EXECUTOR} while the current one is being translated. Pages are only
+     * consumed by the calling thread, so the aggregator is never accessed concurrently. The listing is not sharded by
+     * region, as the regions reported by DescribeStackSet are not guaranteed to cover every stack instance.
      *
      * @param stackSetId    {@link ResourceModel#getStackSetId()}
      * @param isSelfManaged if permission model is SELF_MANAGED
-     * @param token         {@link ListStackInstancesResponse#nextToken()}
-     * @return String nextToken
+     * @param aggregator    {@link StackInstancesAggregator} consuming the stack instances of every page
      */
-    private String attachStackInstances(
+    private void attachStackInstances(
             final String stackSetId,
             final boolean isSelfManaged,
-            final Set<StackInstance> stackInstanceSet,
+            final StackInstancesAggregator aggregator,
+            final String callAs) {
+
+        CompletableFuture<ListStackInstancesResponse> nextPage = fetchPage(stackSetId, callAs, null);
+        while (nextPage != null) {
+            final ListStackInstancesResponse listStackInstancesResponse = join(nextPage);
+            if (!listStackInstancesResponse.hasSummaries()) break;
+
+            nextPage = listStackInstancesResponse.nextToken() == null
+                    ? null : fetchPage(stackSetId, callAs, listStackInstancesResponse.nextToken());
+            listStackInstancesResponse.summaries().forEach(member -> {
+                // Parameters are set null as we can't retrieve parameter override from List API.
+                // Retrieving from Describe API requires to brutal force every single stack instance
+                // which will likely cause timeout issue
+                aggregator.accept(translateToStackInstance(isSelfManaged, member, null));
+            });
+        }
+    }
+
+    /**
+     * @param token {@link ListStackInstancesResponse#nextToken()}
+     * @return {@link ListStackInstancesResponse} being fetched
+     */
+    private CompletableFuture<ListStackInstancesResponse> fetchPage(
+            final String stackSetId,
             final String callAs,
-            String token) {
-
-        final ListStackInstancesResponse listStackInstancesResponse = proxyClient.injectCredentialsAndInvokeV2(
-                listStackInstancesRequest(token, stackSetId, callAs), proxyClient.client()::listStackInstances);
-        final String nextToken = listStackInstancesResponse.nextToken();
-        if (!listStackInstancesResponse.hasSummaries()) return null;
-        listStackInstancesResponse.summaries().forEach(member -> {
-            // Parameters are set null as we can't retrieve parameter override from List API.
-            // Retrieving from Describe API requires to brutal force every single stack instance
-            // which will likely cause timeout issue
-            stackInstanceSet.add(translateToStackInstance(isSelfManaged, member, null));
-        });
-        return nextToken;
+            final String token) {
+
+        return CompletableFuture.supplyAsync(() -> proxyClient.injectCredentialsAndInvokeV2(
+                listStackInstancesRequest(token, stackSetId, callAs), proxyClient.client()::listStackInstances), PAGE_EXECUTOR);
+    }
+
+    /**
+     * Rethrows failures of the listing as they would have been thrown by a sequential call
+     */
+    private static <T> T join(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
     }
 }
@@ -0,0 +1,129 @@
+package software.amazon.cloudformation.stackset.util;
+
+import software.amazon.cloudformation.stackset.DeploymentTargets;
+import software.amazon.cloudformation.stackset.Parameter;
+import software.amazon.cloudformation.stackset.StackInstances;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Utility class to aggregate flat {@link StackInstance}s into the minimal group of {@link StackInstances}
+ * in a single pass.
+ * <p>
+ * Every accepted instance only sets the bit of its region in the region set of its
+ * (deployment target, parameter overrides) pair. Once all instances are consumed, targets sharing the same
+ * region set and parameter overrides are merged into one {@link StackInstances}.
+ */
+public class StackInstancesAggregator {
+
+    private final boolean isSelfManaged;
+
+    private final SymbolTable regions = new SymbolTable();
+
+    // Parameter overrides are compared by value, null is a distinct value from an empty set
+    private final Map<Set<Parameter>, Integer> parameterIds = new HashMap<>();
+
+    private final List<Set<Parameter>> parameterSets = new ArrayList<>();
+
+    // Region set of every deployment target, one map per parameter overrides id
+    private final List<Map<String, BitSet>> regionsByTarget = new ArrayList<>();
+
+    // Instances of the same StackInstances group share the parameter set reference, skip hashing it again
+    private Set<Parameter> lastParameters;
+
+    private int lastParameterId = -1;
+
+    public StackInstancesAggregator(final boolean isSelfManaged) {
+        this.isSelfManaged = isSelfManaged;
+    }
+
+    /**
+     * @param stackInstance {@link StackInstance} to aggregate
+     */
+    public void accept(final StackInstance stackInstance) {
+        accept(stackInstance.getRegion(), stackInstance.getDeploymentTarget(), stackInstance.getParameters());
+    }
+
+    /**
+     * @param region           Region of the stack instance
+     * @param deploymentTarget Account or OrganizationalUnitId of the stack instance
+     * @param parameters       Parameter overrides of the stack instance
+     */
+    public void accept(final String region, final String deploymentTarget, final Set<Parameter> parameters) {
+        final Map<String, BitSet> targetRegions = regionsByTarget.get(internParameters(parameters));
+        BitSet regionSet = targetRegions.get(deploymentTarget);
+        if (regionSet == null) {
+            regionSet = new BitSet();
+            targetRegions.put(deploymentTarget, regionSet);
+        }
+        regionSet.set(regions.intern(region));
+    }
+
+    /**
+     * Groups deployment targets with the same regions and parameter overrides
+     *
+     * @return {@link StackInstances} set
+     */
+    public Set<StackInstances> aggregate() {
+        final Map<RegionSetKey, StackInstances> groupedStacksMap = new HashMap<>();
+        for (int parameterId = 0; parameterId < regionsByTarget.size(); parameterId++) {
+            for (final Map.Entry<String, BitSet> entry : regionsByTarget.get(parameterId).entrySet()) {
+                final RegionSetKey compositeKey = new RegionSetKey(entry.getValue(), parameterId);
+                final StackInstances stackInstances = groupedStacksMap.get(compositeKey);
+                if (stackInstances == null) {
+                    groupedStacksMap.put(compositeKey, StackInstances.builder()
+                            .regions(toRegions(entry.getValue()))
+                            .deploymentTargets(toDeploymentTargets(entry.getKey()))
+                            .parameterOverrides(parameterSets.get(parameterId))
+                            .build());
+                } else if (isSelfManaged) {
+                    stackInstances.getDeploymentTargets().getAccounts().add(entry.getKey());
+                } else {
+                    stackInstances.getDeploymentTargets().getOrganizationalUnitIds().add(entry.getKey());
+                }
+            }
+        }
+        return new HashSet<>(groupedStacksMap.values());
+    }
+
+    private int internParameters(final Set<Parameter> parameters) {
+        if (lastParameterId >= 0 && parameters == lastParameters) return lastParameterId;
+
+        Integer id = parameterIds.get(parameters);
+        if (id == null) {
+            id = parameterSets.size();
+            parameterIds.put(parameters, id);
+            parameterSets.add(parameters);
+            regionsByTarget.add(new LinkedHashMap<>());
+        }
+        lastParameters = parameters;
+        lastParameterId = id;
+        return id;
+    }
+
+    private Set<String> toRegions(final BitSet regionSet) {
+        final Set<String> regionNames = new HashSet<>();
+        for (int i = regionSet.nextSetBit(0); i >= 0; i = regionSet.nextSetBit(i + 1)) {
+            regionNames.add(regions.symbolOf(i));
+        }
+        return regionNames;
+    }
+
+    private DeploymentTargets toDeploymentTargets(final String target) {
+        final DeploymentTargets targets = DeploymentTargets.builder().build();
+        if (isSelfManaged) {
+            targets.setAccounts(new HashSet<>(Collections.singletonList(target)));
+        } else {
+            targets.setOrganizationalUnitIds(new HashSet<>(Collections.singletonList(target)));
+        }
+        return targets;
+    }
+}
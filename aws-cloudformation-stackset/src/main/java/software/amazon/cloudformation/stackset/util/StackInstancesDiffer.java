@@ -0,0 +1,175 @@
+package software.amazon.cloudformation.stackset.util;
+
+import lombok.Value;
+import software.amazon.awssdk.utils.CollectionUtils;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.stackset.Parameter;
+import software.amazon.cloudformation.stackset.StackInstances;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static software.amazon.cloudformation.stackset.util.InstancesAnalyzer.aggregateStackInstances;
+
+/**
+ * Utility class to calculate the {@link StackInstances} to create, delete and update between two
+ * StackInstancesGroups.
+ * <p>
+ * Regions and deployment targets are interned to integer ids, so every model is held as a {@link BitSet}
+ * over the (target x region) grid plus the id of its parameter overrides. Create, delete and update sets are
+ * then plain bit operations, and only the stack instances that actually change are materialized as
+ * {@link StackInstance} before being aggregated.
+ */
+public class StackInstancesDiffer {
+
+    private final boolean isSelfManaged;
+
+    private final SymbolTable regions = new SymbolTable();
+
+    private final SymbolTable targets = new SymbolTable();
+
+    // Parameter overrides are compared by value, null is a distinct value from an empty set
+    private final Map<Set<Parameter>, Integer> parameterIds = new HashMap<>();
+
+    private final List<Set<Parameter>> parameterSets = new ArrayList<>();
+
+    public StackInstancesDiffer(final boolean isSelfManaged) {
+        this.isSelfManaged = isSelfManaged;
+    }
+
+    /**
+     * Calculates the {@link StackInstances} that need to be modified from the previous to the desired group
+     *
+     * @param previousGroup previous {@link software.amazon.cloudformation.stackset.ResourceModel#getStackInstancesGroup()}
+     * @param desiredGroup  desired {@link software.amazon.cloudformation.stackset.ResourceModel#getStackInstancesGroup()}
+     * @param placeHolder   {@link StackInstancesPlaceHolder}
+     */
+    public void diff(
+            final Collection<StackInstances> previousGroup,
+            final Collection<StackInstances> desiredGroup,
+            final StackInstancesPlaceHolder placeHolder) {
+
+        // Symbols need to be interned up front so both models share the same grid width
+        internSymbols(previousGroup);
+        internSymbols(desiredGroup);
+
+        final IndexedGroup previous = index(previousGroup);
+        final IndexedGroup desired = index(desiredGroup);
+
+        final BitSet toAdd = (BitSet) desired.getInstances().clone();
+        toAdd.andNot(previous.getInstances());
+        final BitSet toDelete = (BitSet) previous.getInstances().clone();
+        toDelete.andNot(desired.getInstances());
+        final BitSet toCompare = (BitSet) desired.getInstances().clone();
+        toCompare.and(previous.getInstances());
+
+        final BitSet toUpdate = new BitSet();
+        for (int i = toCompare.nextSetBit(0); i >= 0; i = toCompare.nextSetBit(i + 1)) {
+            if (previous.getParameterIds()[i] != desired.getParameterIds()[i]) {
+                toUpdate.set(i);
+            }
+        }
+
+        placeHolder.setCreateStackInstances(new ArrayList<>(
+                aggregateStackInstances(materialize(toAdd, desired), isSelfManaged)));
+        placeHolder.setDeleteStackInstances(new ArrayList<>(
+                aggregateStackInstances(materialize(toDelete, previous), isSelfManaged)));
+        placeHolder.setUpdateStackInstances(new ArrayList<>(
+                aggregateStackInstances(materialize(toUpdate, desired), isSelfManaged)));
+    }
+
+    private void internSymbols(final Collection<StackInstances> stackInstancesGroup) {
+        if (CollectionUtils.isNullOrEmpty(stackInstancesGroup)) return;
+
+        for (final StackInstances stackInstances : stackInstancesGroup) {
+            final Set<String> groupTargets = getTargets(stackInstances);
+            if (!CollectionUtils.isNullOrEmpty(groupTargets)) {
+                groupTargets.forEach(targets::intern);
+            }
+            stackInstances.getRegions().forEach(regions::intern);
+        }
+    }
+
+    /**
+     * Sets one bit per (target, region) pair of the group, validating targets and duplicates the same way
+     * flattening the group does
+     */
+    private IndexedGroup index(final Collection<StackInstances> stackInstancesGroup) {
+        final int width = regions.size();
+        final BitSet instances = new BitSet();
+        final int[] groupParameterIds = new int[Math.multiplyExact(targets.size(), width)];
+        if (CollectionUtils.isNullOrEmpty(stackInstancesGroup)) return new IndexedGroup(instances, groupParameterIds);
+
+        for (final StackInstances stackInstances : stackInstancesGroup) {
+            final Set<String> groupTargets = getTargets(stackInstances);
+            final int parameterId = internParameters(stackInstances.getParameterOverrides());
+
+            for (final String region : stackInstances.getRegions()) {
+
+                // Validates expected DeploymentTargets exist in the template
+                if (CollectionUtils.isNullOrEmpty(groupTargets)) {
+                    throw new CfnInvalidRequestException(
+                            String.format("%s should be specified in DeploymentTargets in [%s] model",
+                                    isSelfManaged ? "Accounts" : "OrganizationalUnitIds",
+                                    isSelfManaged ? "SELF_MANAGED" : "SERVICE_MANAGED"));
+                }
+
+                final int regionId = regions.idOf(region);
+                for (final String target : groupTargets) {
+                    final int position = targets.idOf(target) * width + regionId;
+
+                    // Validates no duplicated stack instance is specified
+                    if (instances.get(position)) {
+                        throw new CfnInvalidRequestException(
+                                String.format("Stack instance [%s,%s] is duplicated", target, region));
+                    }
+                    instances.set(position);
+                    groupParameterIds[position] = parameterId;
+                }
+            }
+        }
+        return new IndexedGroup(instances, groupParameterIds);
+    }
+
+    private Set<StackInstance> materialize(final BitSet positions, final IndexedGroup group) {
+        final int width = regions.size();
+        final Set<StackInstance> stackInstances = new HashSet<>();
+        for (int i = positions.nextSetBit(0); i >= 0; i = positions.nextSetBit(i + 1)) {
+            stackInstances.add(StackInstance.builder()
+                    .region(regions.symbolOf(i % width))
+                    .deploymentTarget(targets.symbolOf(i / width))
+                    .parameters(parameterSets.get(group.getParameterIds()[i]))
+                    .build());
+        }
+        return stackInstances;
+    }
+
+    private int internParameters(final Set<Parameter> parameters) {
+        final Integer id = parameterIds.get(parameters);
+        if (id != null) return id;
+        final int newId = parameterSets.size();
+        parameterIds.put(parameters, newId);
+        parameterSets.add(parameters);
+        return newId;
+    }
+
+    private Set<String> getTargets(final StackInstances stackInstances) {
+        return isSelfManaged ? stackInstances.getDeploymentTargets().getAccounts()
+                : stackInstances.getDeploymentTargets().getOrganizationalUnitIds();
+    }
+
+    /**
+     * Bitmap of the stack instances of one model, with the parameter overrides id of every set bit
+     */
+    @Value
+    private static class IndexedGroup {
+        BitSet instances;
+        int[] parameterIds;
+    }
+}
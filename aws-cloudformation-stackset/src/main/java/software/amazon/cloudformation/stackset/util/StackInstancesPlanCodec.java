@@ -0,0 +1,282 @@
+package software.amazon.cloudformation.stackset.util;
+
+import software.amazon.cloudformation.stackset.DeploymentTargets;
+import software.amazon.cloudformation.stackset.Parameter;
+import software.amazon.cloudformation.stackset.StackInstances;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Compact encoding of the {@link StackInstancesPlaceHolder} kept in the CallbackContext between callbacks.
+ * <p>
+ * Regions, accounts, OUs and every other string of the plan are written once into a sorted dictionary, and each
+ * StackInstances refers to them by index. Sets of indexes are sorted and delta coded as variable length integers,
+ * so the accounts shared by many groups of a large organization cost a byte or two per group. Plans larger than
+ * {@link #COMPRESSION_THRESHOLD} bytes are deflated as well.
+ */
+public final class StackInstancesPlanCodec {
+
+    private static final byte VERSION = 1;
+
+    private static final byte DEFLATED = 1;
+
+    private static final int COMPRESSION_THRESHOLD = 1024;
+
+    private StackInstancesPlanCodec() {
+    }
+
+    /**
+     * @param plan {@link StackInstancesPlaceHolder}
+     * @return Base64 encoded plan, deflated if larger than {@link #COMPRESSION_THRESHOLD} bytes
+     */
+    public static String encode(final StackInstancesPlaceHolder plan) {
+        return encode(plan, true);
+    }
+
+    /**
+     * @param plan     {@link StackInstancesPlaceHolder}
+     * @param compress if large plans are deflated
+     * @return Base64 encoded plan
+     */
+    public static String encode(final StackInstancesPlaceHolder plan, final boolean compress) {
+        final List<List<StackInstances>> groups = Arrays.asList(
+                nullToEmpty(plan.getCreateStackInstances()),
+                nullToEmpty(plan.getDeleteStackInstances()),
+                nullToEmpty(plan.getUpdateStackInstances()));
+
+        final Set<String> strings = new TreeSet<>();
+        groups.forEach(stackInstancesList -> stackInstancesList.forEach(stackInstances -> collectStrings(stackInstances, strings)));
+        final Map<String, Integer> dictionary = new HashMap<>();
+        for (final String string : strings) {
+            dictionary.put(string, dictionary.size());
+        }
+
+        final ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        try (final DataOutputStream out = new DataOutputStream(payload)) {
+            writeVarInt(out, strings.size());
+            for (final String string : strings) {
+                final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                writeVarInt(out, bytes.length);
+                out.write(bytes);
+            }
+            for (final List<StackInstances> stackInstancesList : groups) {
+                writeVarInt(out, stackInstancesList.size());
+                for (final StackInstances stackInstances : stackInstancesList) {
+                    writeStackInstances(out, stackInstances, dictionary);
+                }
+            }
+        } catch (final IOException e) {
+            throw new IllegalStateException("Unable to encode StackInstances plan", e);
+        }
+
+        final ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        final boolean deflate = compress && payload.size() > COMPRESSION_THRESHOLD;
+        encoded.write(VERSION);
+        encoded.write(deflate ? DEFLATED : 0);
+        try {
+            if (deflate) {
+                try (final DeflaterOutputStream out = new DeflaterOutputStream(encoded)) {
+                    payload.writeTo(out);
+                }
+            } else {
+                payload.writeTo(encoded);
+            }
+        } catch (final IOException e) {
+            throw new IllegalStateException("Unable to encode StackInstances plan", e);
+        }
+        return Base64.getEncoder().encodeToString(encoded.toByteArray());
+    }
+
+    /**
+     * @param encoded Plan returned by {@link #encode}
+     * @return {@link StackInstancesPlaceHolder}
+     * @throws IllegalArgumentException if the plan is not encoded by this codec
+     */
+    public static StackInstancesPlaceHolder decode(final String encoded) {
+        final byte[] bytes = Base64.getDecoder().decode(encoded);
+        if (bytes.length < 2 || bytes[0] != VERSION) {
+            throw new IllegalArgumentException("Unsupported StackInstances plan encoding");
+        }
+
+        final InputStream payload = new ByteArrayInputStream(bytes, 2, bytes.length - 2);
+        try (final DataInputStream in = new DataInputStream(
+                bytes[1] == DEFLATED ? new InflaterInputStream(payload) : payload)) {
+            final String[] strings = new String[readVarInt(in)];
+            for (int i = 0; i < strings.length; i++) {
+                final byte[] string = new byte[readVarInt(in)];
+                in.readFully(string);
+                strings[i] = new String(string, StandardCharsets.UTF_8);
+            }
+
+            final StackInstancesPlaceHolder plan = new StackInstancesPlaceHolder();
+            plan.setCreateStackInstances(readStackInstancesList(in, strings));
+            plan.setDeleteStackInstances(readStackInstancesList(in, strings));
+            plan.setUpdateStackInstances(readStackInstancesList(in, strings));
+            return plan;
+        } catch (final IOException | ArrayIndexOutOfBoundsException | NegativeArraySizeException e) {
+            throw new IllegalArgumentException("Invalid StackInstances plan", e);
+        }
+    }
+
+    private static void collectStrings(final StackInstances stackInstances, final Set<String> strings) {
+        addAll(strings, stackInstances.getRegions());
+        final DeploymentTargets deploymentTargets = stackInstances.getDeploymentTargets();
+        if (deploymentTargets != null) {
+            addAll(strings, deploymentTargets.getAccounts());
+            addAll(strings, deploymentTargets.getOrganizationalUnitIds());
+            add(strings, deploymentTargets.getAccountsUrl());
+            add(strings, deploymentTargets.getAccountFilterType());
+        }
+        if (stackInstances.getParameterOverrides() != null) {
+            for (final Parameter parameter : stackInstances.getParameterOverrides()) {
+                add(strings, parameter.getParameterKey());
+                add(strings, parameter.getParameterValue());
+            }
+        }
+    }
+
+    private static void writeStackInstances(final DataOutputStream out,
+                                            final StackInstances stackInstances,
+                                            final Map<String, Integer> dictionary) throws IOException {
+        writeStringSet(out, stackInstances.getRegions(), dictionary);
+
+        final DeploymentTargets deploymentTargets = stackInstances.getDeploymentTargets();
+        out.writeBoolean(deploymentTargets != null);
+        if (deploymentTargets != null) {
+            writeStringSet(out, deploymentTargets.getAccounts(), dictionary);
+            writeString(out, deploymentTargets.getAccountsUrl(), dictionary);
+            writeStringSet(out, deploymentTargets.getOrganizationalUnitIds(), dictionary);
+            writeString(out, deploymentTargets.getAccountFilterType(), dictionary);
+        }
+
+        final Set<Parameter> parameters = stackInstances.getParameterOverrides();
+        writeVarInt(out, parameters == null ? 0 : parameters.size() + 1);
+        if (parameters != null) {
+            for (final Parameter parameter : parameters) {
+                writeString(out, parameter.getParameterKey(), dictionary);
+                writeString(out, parameter.getParameterValue(), dictionary);
+            }
+        }
+    }
+
+    private static List<StackInstances> readStackInstancesList(final DataInputStream in,
+                                                               final String[] strings) throws IOException {
+        final int size = readVarInt(in);
+        final List<StackInstances> stackInstancesList = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final StackInstances.StackInstancesBuilder builder = StackInstances.builder()
+                    .regions(readStringSet(in, strings));
+            if (in.readBoolean()) {
+                builder.deploymentTargets(DeploymentTargets.builder()
+                        .accounts(readStringSet(in, strings))
+                        .accountsUrl(readString(in, strings))
+                        .organizationalUnitIds(readStringSet(in, strings))
+                        .accountFilterType(readString(in, strings))
+                        .build());
+            }
+            final int parameters = readVarInt(in);
+            if (parameters > 0) {
+                final Set<Parameter> parameterOverrides = new HashSet<>();
+                for (int j = 1; j < parameters; j++) {
+                    parameterOverrides.add(Parameter.builder()
+                            .parameterKey(readString(in, strings))
+                            .parameterValue(readString(in, strings))
+                            .build());
+                }
+                builder.parameterOverrides(parameterOverrides);
+            }
+            stackInstancesList.add(builder.build());
+        }
+        return stackInstancesList;
+    }
+
+    // Null is written as 0 and indexes are shifted by one
+    private static void writeString(final DataOutputStream out,
+                                    final String string,
+                                    final Map<String, Integer> dictionary) throws IOException {
+        writeVarInt(out, string == null ? 0 : dictionary.get(string) + 1);
+    }
+
+    private static String readString(final DataInputStream in, final String[] strings) throws IOException {
+        final int index = readVarInt(in);
+        return index == 0 ? null : strings[index - 1];
+    }
+
+    // Null is written as 0 and sizes are shifted by one, followed by the sorted indexes as deltas
+    private static void writeStringSet(final DataOutputStream out,
+                                       final Collection<String> set,
+                                       final Map<String, Integer> dictionary) throws IOException {
+        if (set == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+        final int[] indexes = set.stream().mapToInt(dictionary::get).sorted().toArray();
+        writeVarInt(out, indexes.length + 1);
+        int previous = 0;
+        for (final int index : indexes) {
+            writeVarInt(out, index - previous);
+            previous = index;
+        }
+    }
+
+    private static Set<String> readStringSet(final DataInputStream in, final String[] strings) throws IOException {
+        final int size = readVarInt(in);
+        if (size == 0) return null;
+
+        final Set<String> set = new HashSet<>();
+        int index = 0;
+        for (int i = 1; i < size; i++) {
+            index += readVarInt(in);
+            set.add(strings[index]);
+        }
+        return set;
+    }
+
+    private static void writeVarInt(final DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(final DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            final int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("Malformed variable length integer");
+    }
+
+    private static void addAll(final Set<String> strings, final Collection<String> values) {
+        if (values != null) values.forEach(value -> add(strings, value));
+    }
+
+    private static void add(final Set<String> strings, final String value) {
+        if (value != null) strings.add(value);
+    }
+
+    private static <T> List<T> nullToEmpty(final List<T> list) {
+        return list == null ? new ArrayList<>() : list;
+    }
+}
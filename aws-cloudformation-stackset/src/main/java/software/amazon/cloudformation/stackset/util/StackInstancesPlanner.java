@@ -0,0 +1,262 @@
+package software.amazon.cloudformation.stackset.util;
+
+import lombok.Builder;
+import lombok.Value;
+import software.amazon.awssdk.utils.CollectionUtils;
+import software.amazon.cloudformation.stackset.DeploymentTargets;
+import software.amazon.cloudformation.stackset.Parameter;
+import software.amazon.cloudformation.stackset.StackInstances;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Utility class to re-partition the {@link StackInstances} analyzed by {@link InstancesAnalyzer} or
+ * {@link AltResourceModelAnalyzer} into as few StackSet operations as possible.
+ * <p>
+ * Groups addressing plain deployment targets (accounts for SELF_MANAGED, OUs for SERVICE_MANAGED) are
+ * flattened into a (target x region) grid per parameter overrides, and the grid is covered either by grouping
+ * targets with the same region set or by grouping regions with the same target set, whichever needs fewer
+ * operations. Finding the minimal biclique partition is NP-hard, both canonical partitions are exact
+ * and cheap to compute. Groups using account-level targeting are merged across regions when their
+ * deployment targets and parameter overrides are equal. Delete operations ignore parameter overrides, so
+ * they are merged regardless of them.
+ */
+@Builder
+public class StackInstancesPlanner {
+
+    private final boolean isSelfManaged;
+
+    /**
+     * Account-level targeting groups are analyzed per region in RegionOrder, merging them across regions
+     * could run a later region before an earlier one, so they are kept as they are
+     */
+    private final boolean preserveRegionOrder;
+
+    @Builder.Default
+    private final int maxTargetsPerOperation = Integer.MAX_VALUE;
+
+    @Builder.Default
+    private final int maxRegionsPerOperation = Integer.MAX_VALUE;
+
+    /**
+     * Re-partitions all the {@link StackInstances} held by the {@link StackInstancesPlaceHolder}
+     *
+     * @param placeHolder {@link StackInstancesPlaceHolder}
+     */
+    public void plan(final StackInstancesPlaceHolder placeHolder) {
+        placeHolder.setCreateStackInstances(plan(placeHolder.getCreateStackInstances(), true));
+        placeHolder.setDeleteStackInstances(plan(placeHolder.getDeleteStackInstances(), false));
+        placeHolder.setUpdateStackInstances(plan(placeHolder.getUpdateStackInstances(), true));
+    }
+
+    /**
+     * Re-partitions {@link StackInstances} keeping the order in which each partition first appears
+     *
+     * @param stackInstancesList {@link StackInstances} to re-partition
+     * @param withParameters     if parameter overrides are part of the operation
+     * @return {@link StackInstances} list, one element per StackSet operation
+     */
+    public List<StackInstances> plan(final List<StackInstances> stackInstancesList, final boolean withParameters) {
+        if (CollectionUtils.isNullOrEmpty(stackInstancesList)) return stackInstancesList;
+
+        final Map<Object, Partition> partitions = new LinkedHashMap<>();
+        for (final StackInstances stackInstances : stackInstancesList) {
+            final Set<Parameter> parameters = withParameters ? stackInstances.getParameterOverrides() : null;
+            final DeploymentTargets targets = stackInstances.getDeploymentTargets();
+
+            final Partition partition;
+            if (isGrid(stackInstances)) {
+                partition = partitions.computeIfAbsent(new GridKey(parameters), key -> new GridPartition(parameters));
+            } else if (preserveRegionOrder) {
+                partition = new TargetsPartition(targets, parameters);
+                partitions.put(partition, partition);
+            } else {
+                partition = partitions.computeIfAbsent(new TargetParamKey(targets, parameters),
+                        key -> new TargetsPartition(targets, parameters));
+            }
+            partition.add(stackInstances);
+        }
+
+        final List<StackInstances> planned = new ArrayList<>();
+        partitions.values().forEach(partition -> planned.addAll(partition.plan()));
+        return planned;
+    }
+
+    private boolean isGrid(final StackInstances stackInstances) {
+        final DeploymentTargets targets = stackInstances.getDeploymentTargets();
+        if (targets == null || targets.getAccountFilterType() != null || targets.getAccountsUrl() != null
+                || CollectionUtils.isNullOrEmpty(stackInstances.getRegions())) {
+            return false;
+        }
+        return isSelfManaged
+                ? CollectionUtils.isNullOrEmpty(targets.getOrganizationalUnitIds()) && !CollectionUtils.isNullOrEmpty(targets.getAccounts())
+                : CollectionUtils.isNullOrEmpty(targets.getAccounts()) && !CollectionUtils.isNullOrEmpty(targets.getOrganizationalUnitIds());
+    }
+
+    private int operationCount(final int targetCount, final int regionCount) {
+        return ((targetCount - 1) / maxTargetsPerOperation + 1) * ((regionCount - 1) / maxRegionsPerOperation + 1);
+    }
+
+    private static <T> List<List<T>> chunk(final List<T> items, final int size) {
+        final List<List<T>> chunks = new ArrayList<>();
+        for (int i = 0; i < items.size(); i += size) {
+            chunks.add(items.subList(i, Math.min(items.size(), i + size)));
+        }
+        return chunks;
+    }
+
+    private interface Partition {
+        void add(StackInstances stackInstances);
+
+        List<StackInstances> plan();
+    }
+
+    @Value
+    private static class GridKey {
+        Set<Parameter> parameters;
+    }
+
+    /**
+     * Stack instances with the same parameter overrides, held as the region set of every deployment target
+     */
+    private class GridPartition implements Partition {
+
+        private final Set<Parameter> parameters;
+
+        private final SymbolTable regions = new SymbolTable();
+
+        private final SymbolTable targets = new SymbolTable();
+
+        private final Map<Integer, BitSet> regionsByTarget = new LinkedHashMap<>();
+
+        GridPartition(final Set<Parameter> parameters) {
+            this.parameters = parameters;
+        }
+
+        @Override
+        public void add(final StackInstances stackInstances) {
+            final Set<String> groupTargets = isSelfManaged ? stackInstances.getDeploymentTargets().getAccounts()
+                    : stackInstances.getDeploymentTargets().getOrganizationalUnitIds();
+            for (final String target : groupTargets) {
+                final BitSet regionSet = regionsByTarget.computeIfAbsent(targets.intern(target), id -> new BitSet());
+                stackInstances.getRegions().forEach(region -> regionSet.set(regions.intern(region)));
+            }
+        }
+
+        @Override
+        public List<StackInstances> plan() {
+            // Targets deployed to the same regions
+            final Map<BitSet, BitSet> targetsByRegionSet = new LinkedHashMap<>();
+            // Regions deployed to the same targets
+            final Map<Integer, BitSet> targetsByRegion = new LinkedHashMap<>();
+            regionsByTarget.forEach((targetId, regionSet) -> {
+                targetsByRegionSet.computeIfAbsent(regionSet, key -> new BitSet()).set(targetId);
+                for (int regionId = regionSet.nextSetBit(0); regionId >= 0; regionId = regionSet.nextSetBit(regionId + 1)) {
+                    targetsByRegion.computeIfAbsent(regionId, key -> new BitSet()).set(targetId);
+                }
+            });
+            final Map<BitSet, BitSet> regionsByTargetSet = new LinkedHashMap<>();
+            targetsByRegion.forEach((regionId, targetSet) ->
+                    regionsByTargetSet.computeIfAbsent(targetSet, key -> new BitSet()).set(regionId));
+
+            int targetGroupingCount = 0;
+            for (final Map.Entry<BitSet, BitSet> entry : targetsByRegionSet.entrySet()) {
+                targetGroupingCount += operationCount(entry.getValue().cardinality(), entry.getKey().cardinality());
+            }
+            int regionGroupingCount = 0;
+            for (final Map.Entry<BitSet, BitSet> entry : regionsByTargetSet.entrySet()) {
+                regionGroupingCount += operationCount(entry.getKey().cardinality(), entry.getValue().cardinality());
+            }
+
+            final List<StackInstances> planned = new ArrayList<>();
+            if (targetGroupingCount <= regionGroupingCount) {
+                targetsByRegionSet.forEach((regionSet, targetSet) -> planned.addAll(build(targetSet, regionSet)));
+            } else {
+                regionsByTargetSet.forEach((targetSet, regionSet) -> planned.addAll(build(targetSet, regionSet)));
+            }
+            return planned;
+        }
+
+        private List<StackInstances> build(final BitSet targetSet, final BitSet regionSet) {
+            final List<String> targetNames = new ArrayList<>();
+            for (int i = targetSet.nextSetBit(0); i >= 0; i = targetSet.nextSetBit(i + 1)) {
+                targetNames.add(targets.symbolOf(i));
+            }
+            final List<String> regionNames = new ArrayList<>();
+            for (int i = regionSet.nextSetBit(0); i >= 0; i = regionSet.nextSetBit(i + 1)) {
+                regionNames.add(regions.symbolOf(i));
+            }
+
+            final List<StackInstances> planned = new ArrayList<>();
+            for (final List<String> targetChunk : chunk(targetNames, maxTargetsPerOperation)) {
+                for (final List<String> regionChunk : chunk(regionNames, maxRegionsPerOperation)) {
+                    final DeploymentTargets deploymentTargets = DeploymentTargets.builder().build();
+                    if (isSelfManaged) {
+                        deploymentTargets.setAccounts(new HashSet<>(targetChunk));
+                    } else {
+                        deploymentTargets.setOrganizationalUnitIds(new HashSet<>(targetChunk));
+                    }
+                    planned.add(StackInstances.builder()
+                            .regions(new HashSet<>(regionChunk))
+                            .deploymentTargets(deploymentTargets)
+                            .parameterOverrides(parameters)
+                            .build());
+                }
+            }
+            return planned;
+        }
+    }
+
+    /**
+     * Stack instances with the same deployment targets and parameter overrides, only regions can be merged
+     */
+    private class TargetsPartition implements Partition {
+
+        private final DeploymentTargets targets;
+
+        private final Set<Parameter> parameters;
+
+        private final Set<String> regions = new LinkedHashSet<>();
+
+        TargetsPartition(final DeploymentTargets targets, final Set<Parameter> parameters) {
+            this.targets = targets;
+            this.parameters = parameters;
+        }
+
+        @Override
+        public void add(final StackInstances stackInstances) {
+            if (stackInstances.getRegions() != null) {
+                regions.addAll(stackInstances.getRegions());
+            }
+        }
+
+        @Override
+        public List<StackInstances> plan() {
+            final List<StackInstances> planned = new ArrayList<>();
+            if (regions.isEmpty()) {
+                // Nothing to merge, leave it to the service to validate
+                planned.add(StackInstances.builder()
+                        .regions(new HashSet<>())
+                        .deploymentTargets(targets)
+                        .parameterOverrides(parameters)
+                        .build());
+                return planned;
+            }
+            for (final List<String> regionChunk : chunk(new ArrayList<>(regions), maxRegionsPerOperation)) {
+                planned.add(StackInstances.builder()
+                        .regions(new HashSet<>(regionChunk))
+                        .deploymentTargets(targets)
+                        .parameterOverrides(parameters)
+                        .build());
+            }
+            return planned;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package software.amazon.cloudformation.stackset.util;
+
+import lombok.Value;
+import software.amazon.awssdk.services.cloudformation.model.StackSetOperation;
+import software.amazon.awssdk.services.cloudformation.model.StackSetOperationResultStatus;
+import software.amazon.awssdk.services.cloudformation.model.StackSetOperationResultSummary;
+import software.amazon.awssdk.services.cloudformation.model.StackSetOperationStatus;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Polls a StackSet operation, and estimates the remaining time of a running operation from its partial results.
+ * <p>
+ * Every poll issues DescribeStackSetOperation, nothing is cached across polls or handler invocations. The results
+ * are only sampled every {@link #RESULTS_SAMPLE_INTERVAL} polls, and only when the operation is running and its
+ * creation time is known, as the estimate needs both. Polls in between return no estimate, and the polling delay
+ * keeps counting down the last one.
+ */
+public class StackSetOperationPoller {
+
+    public static final int RESULTS_SAMPLE_INTERVAL = 4;
+
+    private final Clock clock;
+
+    public StackSetOperationPoller(final Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * @param describe    Issues DescribeStackSetOperation
+     * @param listResults Lists a sample of the operation results, only invoked when the remaining time can be estimated
+     * @param pollCount   Number of polls of the operation, including this one
+     * @return {@link OperationPoll}
+     */
+    public OperationPoll poll(final Supplier<StackSetOperation> describe,
+                              final Supplier<List<StackSetOperationResultSummary>> listResults,
+                              final int pollCount) {
+
+        final StackSetOperation operation = describe.get();
+        final Duration expectedRemaining = pollCount % RESULTS_SAMPLE_INTERVAL == 0 && isEstimable(operation)
+                ? estimateRemaining(operation, listResults.get(), clock.instant()) : null;
+        return new OperationPoll(operation, expectedRemaining);
+    }
+
+    private static boolean isEstimable(final StackSetOperation operation) {
+        return operation.status() == StackSetOperationStatus.RUNNING && operation.creationTimestamp() != null;
+    }
+
+    /**
+     * Estimates the remaining time of a running operation assuming the remaining stack instances complete at the
+     * same rate as the completed ones
+     *
+     * @param operation {@link StackSetOperation}
+     * @param results   Sample of {@link StackSetOperationResultSummary}
+     * @param now       Current time
+     * @return Expected remaining time, null if there is not enough progress to estimate it
+     */
+    static Duration estimateRemaining(final StackSetOperation operation,
+                                      final List<StackSetOperationResultSummary> results,
+                                      final Instant now) {
+
+        if (!isEstimable(operation) || results == null || results.isEmpty()) {
+            return null;
+        }
+        final long completed = results.stream().filter(StackSetOperationPoller::isCompleted).count();
+        final Duration elapsed = Duration.between(operation.creationTimestamp(), now);
+        if (completed == 0 || elapsed.isNegative()) return null;
+
+        return elapsed.multipliedBy(results.size() - completed).dividedBy(completed);
+    }
+
+    private static boolean isCompleted(final StackSetOperationResultSummary summary) {
+        return summary.status() == StackSetOperationResultStatus.SUCCEEDED
+                || summary.status() == StackSetOperationResultStatus.FAILED
+                || summary.status() == StackSetOperationResultStatus.CANCELLED;
+    }
+
+    /**
+     * Result of a single DescribeStackSetOperation poll
+     */
+    @Value
+    public static class OperationPoll {
+
+        StackSetOperation operation;
+
+        /**
+         * Expected time until the operation completes, null if unknown
+         */
+        Duration expectedRemaining;
+
+        public boolean isDone() {
+            return operation.status() != StackSetOperationStatus.RUNNING
+                    && operation.status() != StackSetOperationStatus.QUEUED;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package software.amazon.cloudformation.stackset.util;
+
+import lombok.Getter;
+import software.amazon.awssdk.services.cloudformation.model.StackSetOperationResultStatus;
+import software.amazon.awssdk.services.cloudformation.model.StackSetOperationResultSummary;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Collects distinct status reasons of failed stack instances page by page, until the reasons no longer fit in the
+ * character budget of the error message.
+ * <p>
+ * Also counts the failed stack instances per status reason, region and account over the scanned results.
+ */
+public class StatusReasonCollector {
+
+    private static final String REASON_FORMAT = " [%s]";
+
+    private final int characterBudget;
+
+    private int characters;
+
+    /**
+     * Distinct status reasons, in the order they were found
+     */
+    @Getter
+    private final Set<String> statusReasons = new LinkedHashSet<>();
+
+    @Getter
+    private final Map<String, Integer> failuresByReason = new TreeMap<>();
+
+    @Getter
+    private final Map<String, Integer> failuresByRegion = new TreeMap<>();
+
+    @Getter
+    private final Map<String, Integer> failuresByAccount = new TreeMap<>();
+
+    /**
+     * @param characterBudget Number of characters left for status reasons in the error message
+     */
+    public StatusReasonCollector(final int characterBudget) {
+        this.characterBudget = characterBudget;
+    }
+
+    /**
+     * @param summaries One page of {@link StackSetOperationResultSummary}
+     */
+    public void accept(final Iterable<StackSetOperationResultSummary> summaries) {
+        for (final StackSetOperationResultSummary summary : summaries) {
+            if (summary.status() != StackSetOperationResultStatus.FAILED) continue;
+
+            failuresByReason.merge(String.valueOf(summary.statusReason()), 1, Integer::sum);
+            failuresByRegion.merge(String.valueOf(summary.region()), 1, Integer::sum);
+            failuresByAccount.merge(String.valueOf(summary.account()), 1, Integer::sum);
+            if (!isFull() && statusReasons.add(summary.statusReason())) {
+                characters += String.format(REASON_FORMAT, summary.statusReason()).length();
+            }
+        }
+    }
+
+    /**
+     * @return if the collected status reasons exceed the character budget, so further pages cannot change the
+     * error message
+     */
+    public boolean isFull() {
+        return characters > characterBudget;
+    }
+
+    /**
+     * @param errorMessage Error message to append the collected status reasons to
+     */
+    public void appendTo(final StringBuilder errorMessage) {
+        statusReasons.forEach(statusReason -> errorMessage.append(String.format(REASON_FORMAT, statusReason)));
+    }
+
+    /**
+     * @return Compact histogram of the failed stack instances
+     */
+    public String toHistogram() {
+        return String.format("reasons %s, regions %s, accounts %s", failuresByReason, failuresByRegion, failuresByAccount);
+    }
+}
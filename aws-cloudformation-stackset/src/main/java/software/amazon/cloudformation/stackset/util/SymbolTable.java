@@ -0,0 +1,55 @@
+package software.amazon.cloudformation.stackset.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Utility class to intern strings (regions, accounts, OUs) to dense integer ids, so that
+ * collections of them can be represented by bit positions instead of object graphs
+ */
+public class SymbolTable {
+
+    public static final int NOT_FOUND = -1;
+
+    private final Map<String, Integer> ids = new HashMap<>();
+
+    private final List<String> symbols = new ArrayList<>();
+
+    /**
+     * Returns the id of the symbol, assigning the next free id if the symbol has not been seen yet
+     *
+     * @param symbol Symbol to intern
+     * @return id of the symbol
+     */
+    public int intern(final String symbol) {
+        final Integer id = ids.get(symbol);
+        if (id != null) return id;
+        final int newId = symbols.size();
+        ids.put(symbol, newId);
+        symbols.add(symbol);
+        return newId;
+    }
+
+    /**
+     * @param symbol Symbol to look up
+     * @return id of the symbol, or {@link #NOT_FOUND} if it has never been interned
+     */
+    public int idOf(final String symbol) {
+        final Integer id = ids.get(symbol);
+        return id == null ? NOT_FOUND : id;
+    }
+
+    /**
+     * @param id id returned by {@link #intern(String)}
+     * @return the interned symbol
+     */
+    public String symbolOf(final int id) {
+        return symbols.get(id);
+    }
+
+    public int size() {
+        return symbols.size();
+    }
+}
@@ -0,0 +1,43 @@
+package software.amazon.cloudformation.stackset.util;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import software.amazon.cloudformation.stackset.DeploymentTargets;
+import software.amazon.cloudformation.stackset.Parameter;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Immutable (deployment targets, parameter overrides) key, with a cached hash code.
+ * <p>
+ * The sets of the {@link DeploymentTargets} and parameter overrides are copied, so that the key cannot change
+ * when the {@link software.amazon.cloudformation.stackset.StackInstances} it was built from are modified.
+ */
+@Value
+@EqualsAndHashCode(cacheStrategy = EqualsAndHashCode.CacheStrategy.LAZY)
+public class TargetParamKey {
+
+    Set<String> accounts;
+
+    String accountsUrl;
+
+    Set<String> organizationalUnitIds;
+
+    String accountFilterType;
+
+    Set<Parameter> parameters;
+
+    public TargetParamKey(final DeploymentTargets targets, final Set<Parameter> parameters) {
+        this.accounts = targets == null ? null : copyOf(targets.getAccounts());
+        this.accountsUrl = targets == null ? null : targets.getAccountsUrl();
+        this.organizationalUnitIds = targets == null ? null : copyOf(targets.getOrganizationalUnitIds());
+        this.accountFilterType = targets == null ? null : targets.getAccountFilterType();
+        this.parameters = copyOf(parameters);
+    }
+
+    private static <T> Set<T> copyOf(final Set<T> values) {
+        return values == null ? null : Collections.unmodifiableSet(new HashSet<>(values));
+    }
+}
@@ -0,0 +1,94 @@
+package software.amazon.cloudformation.stackset.util;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bounded in-process LRU cache of the resource types returned by GetTemplateSummary, keyed by template digest.
+ * <p>
+ * Only template bodies without transforms are shared, as they resolve to the same resource types for every caller.
+ * Template URLs are never cached, so that GetTemplateSummary checks each caller's access to the S3 object.
+ */
+public final class TemplateSummaryCache {
+
+    private static final int MAX_ENTRIES = 64;
+
+    private static final String TRANSFORM = "Transform";
+
+    private static final Map<String, Set<String>> RESOURCE_TYPES = Collections.synchronizedMap(new LruMap(MAX_ENTRIES));
+
+    private TemplateSummaryCache() {
+    }
+
+    /**
+     * @param templateBody {@link software.amazon.cloudformation.stackset.ResourceModel#getTemplateBody}
+     * @return Digest identifying the template content, null if there is no template body
+     */
+    public static String templateKey(final String templateBody) {
+        return templateBody == null ? null : "sha256:" + sha256(templateBody);
+    }
+
+    /**
+     * @param templateKey Digest from {@link #templateKey}
+     * @return Cached resource types, null if the template was not summarized yet
+     */
+    public static Set<String> get(final String templateKey) {
+        return templateKey == null ? null : RESOURCE_TYPES.get(templateKey);
+    }
+
+    /**
+     * Caches the resource types of template bodies that can be shared across callers.
+     * Transforms may expand to different resources per account, so templates using them are not cached.
+     *
+     * @param templateBody  {@link software.amazon.cloudformation.stackset.ResourceModel#getTemplateBody}
+     * @param resourceTypes Resource types returned by GetTemplateSummary
+     */
+    public static void put(final String templateBody, final Set<String> resourceTypes) {
+        if (templateBody != null && !templateBody.contains(TRANSFORM)) {
+            RESOURCE_TYPES.put(templateKey(templateBody), Collections.unmodifiableSet(resourceTypes));
+        }
+    }
+
+    @VisibleForTesting
+    public static void clear() {
+        RESOURCE_TYPES.clear();
+    }
+
+    private static String sha256(final String value) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            final StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (final byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (final NoSuchAlgorithmException e) {
+            // SHA-256 is required to be supported by every JVM
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class LruMap extends LinkedHashMap<String, Set<String>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int maxEntries;
+
+        LruMap(final int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, Set<String>> eldest) {
+            return size() > maxEntries;
+        }
+    }
+}
@@ -55,6 +55,7 @@ public class Validator {
      *     <li> If using S3 URI, it must be valid
      *     <li> Template contents must be valid
      * </ul>
+     * Summaries of template bodies that already passed validation are reused from {@link TemplateSummaryCache}.
      *
      * @param proxyClient      {@link ProxyClient <CloudFormationClient>}
      * @param templateBody     {@link software.amazon.cloudformation.stackset.ResourceModel#getTemplateBody}
@@ -67,13 +68,16 @@ public class Validator {
             final String templateLocation,
             final boolean isSelfManaged) {
 
-        final GetTemplateSummaryResponse response = proxyClient.injectCredentialsAndInvokeV2(
-                getTemplateSummaryRequest(templateBody, templateLocation),
-                proxyClient.client()::getTemplateSummary);
-
-        if (response.hasResourceTypes()) {
-            response.resourceTypes().forEach(resource -> Validator.validateResource(resource, isSelfManaged));
+        Set<String> resourceTypes = TemplateSummaryCache.get(TemplateSummaryCache.templateKey(templateBody));
+        if (resourceTypes == null) {
+            final GetTemplateSummaryResponse response = proxyClient.injectCredentialsAndInvokeV2(
+                    getTemplateSummaryRequest(templateBody, templateLocation),
+                    proxyClient.client()::getTemplateSummary);
+            resourceTypes = response.hasResourceTypes() ? new HashSet<>(response.resourceTypes()) : new HashSet<>();
+            TemplateSummaryCache.put(templateBody, resourceTypes);
         }
+
+        resourceTypes.forEach(resource -> Validator.validateResource(resource, isSelfManaged));
     }
 
     public static void validateServiceMangedInstancesGroup (final Collection<StackInstances> stackInstancesGroup, boolean isAlt) {
@@ -15,13 +15,19 @@ import software.amazon.awssdk.services.cloudformation.model.CreateStackSetReques
 import software.amazon.awssdk.services.cloudformation.model.DescribeStackSetOperationRequest;
 import software.amazon.awssdk.services.cloudformation.model.GetTemplateSummaryRequest;
 import software.amazon.awssdk.services.cloudformation.model.ListStackSetOperationResultsRequest;
+import software.amazon.awssdk.services.cloudformation.model.ListStackSetOperationResultsResponse;
 import software.amazon.awssdk.services.cloudformation.model.NameAlreadyExistsException;
+import software.amazon.awssdk.services.cloudformation.model.StackSetOperationResultStatus;
+import software.amazon.awssdk.services.cloudformation.model.StackSetOperationResultSummary;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.stackset.util.StackInstancesPlaceHolder;
+import software.amazon.cloudformation.stackset.util.StackInstancesPlanCodec;
+import software.amazon.cloudformation.stackset.util.TemplateSummaryCache;
 import software.amazon.cloudformation.test.AbstractMockTestBase;
 
 import java.util.Arrays;
@@ -52,14 +58,24 @@ import static software.amazon.cloudformation.stackset.util.TestUtils.DELEGATED_A
 import static software.amazon.cloudformation.stackset.util.TestUtils.DELEGATED_ADMIN_SERVICE_MANAGED_MODEL;
 import static software.amazon.cloudformation.stackset.util.TestUtils.DESIRED_RESOURCE_TAGS;
 import static software.amazon.cloudformation.stackset.util.TestUtils.LOGICAL_ID;
+import static software.amazon.cloudformation.stackset.util.TestUtils.OPERATION_ID_1;
+import static software.amazon.cloudformation.stackset.util.TestUtils.OPERATION_RUNNING_RESPONSE;
 import static software.amazon.cloudformation.stackset.util.TestUtils.OPERATION_SUCCEED_RESPONSE;
+import static software.amazon.cloudformation.stackset.util.TestUtils.REGIONS_2;
 import static software.amazon.cloudformation.stackset.util.TestUtils.REQUEST_TOKEN;
+import static software.amazon.cloudformation.stackset.util.TestUtils.SELF_MANAGED_CONCURRENT_DISPATCH_MODEL;
 import static software.amazon.cloudformation.stackset.util.TestUtils.SELF_MANAGED_DUPLICATE_INSTANCES_MODEL;
 import static software.amazon.cloudformation.stackset.util.TestUtils.SELF_MANAGED_INVALID_INSTANCES_MODEL;
 import static software.amazon.cloudformation.stackset.util.TestUtils.SELF_MANAGED_MODEL;
+import static software.amazon.cloudformation.stackset.util.TestUtils.SELF_MANAGED_NESTED_STACK_MODEL;
+import static software.amazon.cloudformation.stackset.util.TestUtils.SELF_MANAGED_NESTED_STACK_SET_MODEL;
 import static software.amazon.cloudformation.stackset.util.TestUtils.SELF_MANAGED_NO_INSTANCES_MODEL;
 import static software.amazon.cloudformation.stackset.util.TestUtils.SELF_MANAGED_ONE_INSTANCES_MODEL;
+import static software.amazon.cloudformation.stackset.util.TestUtils.SELF_MANAGED_STACK_INSTANCES_2;
+import static software.amazon.cloudformation.stackset.util.TestUtils.SELF_MANAGED_STACK_INSTANCES_3;
+import static software.amazon.cloudformation.stackset.util.TestUtils.SELF_MANAGED_WITH_ME_MODEL;
 import static software.amazon.cloudformation.stackset.util.TestUtils.SERVICE_MANAGED_MODEL_AS_SELF;
+import static software.amazon.cloudformation.stackset.util.TestUtils.SERVICE_MANAGED_NESTED_STACK_MODEL;
 import static software.amazon.cloudformation.stackset.util.TestUtils.TEMPLATE_SUMMARY_RESPONSE_WITH_NESTED_STACK;
 import static software.amazon.cloudformation.stackset.util.TestUtils.TEMPLATE_SUMMARY_RESPONSE_WITH_NESTED_STACK_SET;
 import static software.amazon.cloudformation.stackset.util.TestUtils.VALID_TEMPLATE_SUMMARY_RESPONSE;
@@ -80,6 +96,7 @@ public class CreateHandlerTest extends AbstractMockTestBase<CloudFormationClient
     public void setup() {
         handler = new CreateHandler();
         client = getServiceClient();
+        TemplateSummaryCache.clear();
     }
 
     @Test
@@ -238,6 +255,142 @@ public class CreateHandlerTest extends AbstractMockTestBase<CloudFormationClient
         verify(client, times(2)).describeStackSetOperation(any(DescribeStackSetOperationRequest.class));
     }
 
+    @Test
+    public void handleRequest_SelfManagedSS_TemplateSummaryCached() {
+
+        request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(SELF_MANAGED_MODEL)
+                .logicalResourceIdentifier(LOGICAL_ID)
+                .desiredResourceTags(DESIRED_RESOURCE_TAGS)
+                .clientRequestToken(REQUEST_TOKEN)
+                .build();
+
+        when(client.getTemplateSummary(any(GetTemplateSummaryRequest.class)))
+                .thenReturn(VALID_TEMPLATE_SUMMARY_RESPONSE);
+        when(client.createStackSet(any(CreateStackSetRequest.class)))
+                .thenReturn(CREATE_STACK_SET_RESPONSE);
+        when(client.createStackInstances(any(CreateStackInstancesRequest.class)))
+                .thenReturn(CREATE_STACK_INSTANCES_RESPONSE);
+        when(client.describeStackSetOperation(any(DescribeStackSetOperationRequest.class)))
+                .thenReturn(OPERATION_SUCCEED_RESPONSE);
+
+        handler.handleRequest(proxy, request, null, loggerProxy);
+
+        // A warm container summarizes the same template body only once
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, loggerProxy);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(client).getTemplateSummary(any(GetTemplateSummaryRequest.class));
+    }
+
+    @Test
+    public void handleRequest_SelfManagedSS_ManagedExecutionWithoutConcurrentDispatch() {
+
+        request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(SELF_MANAGED_WITH_ME_MODEL)
+                .logicalResourceIdentifier(LOGICAL_ID)
+                .desiredResourceTags(DESIRED_RESOURCE_TAGS)
+                .clientRequestToken(REQUEST_TOKEN)
+                .build();
+
+        when(client.getTemplateSummary(any(GetTemplateSummaryRequest.class)))
+                .thenReturn(VALID_TEMPLATE_SUMMARY_RESPONSE);
+        when(client.createStackSet(any(CreateStackSetRequest.class)))
+                .thenReturn(CREATE_STACK_SET_RESPONSE);
+        when(client.createStackInstances(any(CreateStackInstancesRequest.class)))
+                .thenReturn(CREATE_STACK_INSTANCES_RESPONSE);
+        when(client.describeStackSetOperation(any(DescribeStackSetOperationRequest.class)))
+                .thenReturn(OPERATION_SUCCEED_RESPONSE);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, loggerProxy);
+
+        // ManagedExecution alone keeps stabilizing each group before submitting the next
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(SELF_MANAGED_WITH_ME_MODEL);
+
+        verify(client).createStackSet(any(CreateStackSetRequest.class));
+        verify(client, times(2)).createStackInstances(any(CreateStackInstancesRequest.class));
+        verify(client, times(2)).describeStackSetOperation(any(DescribeStackSetOperationRequest.class));
+    }
+
+    @Test
+    public void handleRequest_SelfManagedSS_ConcurrentDispatch() {
+
+        request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(SELF_MANAGED_CONCURRENT_DISPATCH_MODEL)
+                .logicalResourceIdentifier(LOGICAL_ID)
+                .desiredResourceTags(DESIRED_RESOURCE_TAGS)
+                .clientRequestToken(REQUEST_TOKEN)
+                .build();
+
+        when(client.getTemplateSummary(any(GetTemplateSummaryRequest.class)))
+                .thenReturn(VALID_TEMPLATE_SUMMARY_RESPONSE);
+        when(client.createStackSet(any(CreateStackSetRequest.class)))
+                .thenReturn(CREATE_STACK_SET_RESPONSE);
+        when(client.createStackInstances(any(CreateStackInstancesRequest.class)))
+                .thenReturn(CREATE_STACK_INSTANCES_RESPONSE);
+        when(client.describeStackSetOperation(any(DescribeStackSetOperationRequest.class)))
+                .thenReturn(OPERATION_RUNNING_RESPONSE, OPERATION_SUCCEED_RESPONSE);
+
+        final ProgressEvent<ResourceModel, CallbackContext> inProgress
+                = handler.handleRequest(proxy, request, null, loggerProxy);
+
+        assertThat(inProgress.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(inProgress.getCallbackDelaySeconds()).isGreaterThan(0);
+        assertThat(inProgress.getCallbackContext().getOperationIds()).containsExactly(OPERATION_ID_1);
+        assertThat(inProgress.getCallbackContext().getOperationPollCounts()).containsEntry(OPERATION_ID_1, 1);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, inProgress.getCallbackContext(), loggerProxy);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(SELF_MANAGED_CONCURRENT_DISPATCH_MODEL);
+
+        // Both groups are submitted before any of them is polled, and neither is submitted again on callback
+        verify(client).createStackSet(any(CreateStackSetRequest.class));
+        verify(client, times(2)).createStackInstances(any(CreateStackInstancesRequest.class));
+        verify(client, times(2)).describeStackSetOperation(any(DescribeStackSetOperationRequest.class));
+        // Without a creation time the remaining time cannot be estimated, so the results are not sampled
+        verify(client, never()).listStackSetOperationResults(any(ListStackSetOperationResultsRequest.class));
+    }
+
+    @Test
+    public void handleRequest_SelfManagedSS_ResumesPersistedPlan() {
+
+        request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(SELF_MANAGED_MODEL)
+                .logicalResourceIdentifier(LOGICAL_ID)
+                .desiredResourceTags(DESIRED_RESOURCE_TAGS)
+                .clientRequestToken(REQUEST_TOKEN)
+                .build();
+
+        when(client.createStackSet(any(CreateStackSetRequest.class)))
+                .thenReturn(CREATE_STACK_SET_RESPONSE);
+        when(client.createStackInstances(any(CreateStackInstancesRequest.class)))
+                .thenReturn(CREATE_STACK_INSTANCES_RESPONSE);
+        when(client.describeStackSetOperation(any(DescribeStackSetOperationRequest.class)))
+                .thenReturn(OPERATION_SUCCEED_RESPONSE);
+
+        // A previous invocation planned two groups and already created the first one
+        final StackInstancesPlaceHolder plan = new StackInstancesPlaceHolder();
+        plan.setCreateStackInstances(Arrays.asList(SELF_MANAGED_STACK_INSTANCES_3, SELF_MANAGED_STACK_INSTANCES_2));
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setStackInstancesPlan(StackInstancesPlanCodec.encode(plan));
+        callbackContext.getStackInstancesCursor().put("CreateStackInstances", 1);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, callbackContext, loggerProxy);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(StackInstancesPlanCodec.decode(callbackContext.getStackInstancesPlan())).isEqualTo(plan);
+        assertThat(callbackContext.getStackInstancesCursor()).containsEntry("CreateStackInstances", 2);
+
+        verify(client).createStackInstances(argThat(
+                (CreateStackInstancesRequest req) -> REGIONS_2.equals(new HashSet<>(req.regions()))));
+    }
+
     @Test
     public void handleRequest_AltModel_SimpleSuccess() {
         ResourceModel modelToCreate = generateModel(new HashSet<>(Arrays.asList(
@@ -274,8 +427,9 @@ public class CreateHandlerTest extends AbstractMockTestBase<CloudFormationClient
 
         verify(client).getTemplateSummary(any(GetTemplateSummaryRequest.class));
         verify(client).createStackSet(any(CreateStackSetRequest.class));
-        verify(client, times(3)).createStackInstances(any(CreateStackInstancesRequest.class));
-        verify(client, times(3)).describeStackSetOperation(any(DescribeStackSetOperationRequest.class));
+        // Instances of the same targets are created in all regions in one operation
+        verify(client).createStackInstances(any(CreateStackInstancesRequest.class));
+        verify(client).describeStackSetOperation(any(DescribeStackSetOperationRequest.class));
     }
 
     @Test
@@ -348,13 +502,13 @@ public class CreateHandlerTest extends AbstractMockTestBase<CloudFormationClient
     public void handleRequest_SelfManagedSS_Nested_Stack_SimpleSuccess() {
 
         request = ResourceHandlerRequest.<ResourceModel>builder()
-                .desiredResourceState(SELF_MANAGED_ONE_INSTANCES_MODEL)
+                .desiredResourceState(SELF_MANAGED_NESTED_STACK_MODEL)
                 .logicalResourceIdentifier(LOGICAL_ID)
                 .desiredResourceTags(DESIRED_RESOURCE_TAGS)
                 .clientRequestToken(REQUEST_TOKEN)
                 .build();
         when(client.getTemplateSummary(any(GetTemplateSummaryRequest.class)))
-                .thenReturn(TEMPLATE_SUMMARY_RESPONSE_WITH_NESTED_STACK);
+                .thenReturn(VALID_TEMPLATE_SUMMARY_RESPONSE);
         when(client.createStackSet(any(CreateStackSetRequest.class)))
                 .thenReturn(CREATE_STACK_SET_RESPONSE);
         when(client.createStackInstances(any(CreateStackInstancesRequest.class)))
@@ -369,7 +523,7 @@ public class CreateHandlerTest extends AbstractMockTestBase<CloudFormationClient
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
         assertThat(response.getCallbackContext()).isNull();
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
-        assertThat(response.getResourceModel()).isEqualTo(SELF_MANAGED_ONE_INSTANCES_MODEL);
+        assertThat(response.getResourceModel()).isEqualTo(SELF_MANAGED_NESTED_STACK_MODEL);
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
 
@@ -512,19 +666,117 @@ public class CreateHandlerTest extends AbstractMockTestBase<CloudFormationClient
         assertThat(e.getMessage()).contains("... Use list-stack-set-operation-results for more information.");
     }
 
+    @Test
+    public void handlerRequest_OperationStoppedErrorStopsPagingOnceMessageIsFull() {
+        request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(SELF_MANAGED_MODEL)
+            .desiredResourceTags(DESIRED_RESOURCE_TAGS)
+            .logicalResourceIdentifier(LOGICAL_ID)
+            .clientRequestToken(REQUEST_TOKEN)
+            .build();
+        String failedStatusReason = new String(new char[30]).replace("\0", "very very long failed message. ");
+
+        when(client.getTemplateSummary(any(GetTemplateSummaryRequest.class)))
+            .thenReturn(VALID_TEMPLATE_SUMMARY_RESPONSE);
+        when(client.createStackSet(any(CreateStackSetRequest.class)))
+            .thenReturn(CREATE_STACK_SET_RESPONSE);
+        when(client.createStackInstances(any(CreateStackInstancesRequest.class)))
+            .thenReturn(CREATE_STACK_INSTANCES_RESPONSE);
+        when(client.describeStackSetOperation(any(DescribeStackSetOperationRequest.class)))
+            .thenReturn(getFailedDescribeStackSetOperationResponse(null));
+        when(client.listStackSetOperationResults(any(ListStackSetOperationResultsRequest.class)))
+            .thenReturn(getListStackSetOperationResultsResponse(failedStatusReason).toBuilder().nextToken("token").build());
+
+        Exception e = assertThrows(
+            CfnNotStabilizedException.class,
+            () -> handler.handleRequest(proxy, request, null, loggerProxy));
+
+        verify(client).listStackSetOperationResults(any(ListStackSetOperationResultsRequest.class));
+        assertThat(e.getMessage()).contains("... Use list-stack-set-operation-results for more information.");
+    }
+
+    @Test
+    public void handlerRequest_OperationStoppedErrorPagesUntilStatusReasonIsFound() {
+        request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(SELF_MANAGED_MODEL)
+            .desiredResourceTags(DESIRED_RESOURCE_TAGS)
+            .logicalResourceIdentifier(LOGICAL_ID)
+            .clientRequestToken(REQUEST_TOKEN)
+            .build();
+        String failedStatusReason = "failed status reason on a later page";
+        final ListStackSetOperationResultsResponse succeededPage = ListStackSetOperationResultsResponse.builder()
+            .summaries(StackSetOperationResultSummary.builder().status(StackSetOperationResultStatus.SUCCEEDED).build())
+            .nextToken("token")
+            .build();
+
+        when(client.getTemplateSummary(any(GetTemplateSummaryRequest.class)))
+            .thenReturn(VALID_TEMPLATE_SUMMARY_RESPONSE);
+        when(client.createStackSet(any(CreateStackSetRequest.class)))
+            .thenReturn(CREATE_STACK_SET_RESPONSE);
+        when(client.createStackInstances(any(CreateStackInstancesRequest.class)))
+            .thenReturn(CREATE_STACK_INSTANCES_RESPONSE);
+        when(client.describeStackSetOperation(any(DescribeStackSetOperationRequest.class)))
+            .thenReturn(getFailedDescribeStackSetOperationResponse(null));
+        when(client.listStackSetOperationResults(any(ListStackSetOperationResultsRequest.class)))
+            .thenReturn(succeededPage, succeededPage, succeededPage, succeededPage, succeededPage, succeededPage,
+                getListStackSetOperationResultsResponse(failedStatusReason));
+
+        Exception e = assertThrows(
+            CfnNotStabilizedException.class,
+            () -> handler.handleRequest(proxy, request, null, loggerProxy));
+
+        // Paging goes on past the page limit while no status reason has been found
+        verify(client, times(7)).listStackSetOperationResults(any(ListStackSetOperationResultsRequest.class));
+        assertThat(e.getMessage()).contains(failedStatusReason);
+    }
+
+    @Test
+    public void handlerRequest_OperationStoppedErrorStopsPagingWithoutStatusReason() {
+        request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(SELF_MANAGED_MODEL)
+            .desiredResourceTags(DESIRED_RESOURCE_TAGS)
+            .logicalResourceIdentifier(LOGICAL_ID)
+            .clientRequestToken(REQUEST_TOKEN)
+            .build();
+        final ListStackSetOperationResultsResponse succeededPage = ListStackSetOperationResultsResponse.builder()
+            .summaries(StackSetOperationResultSummary.builder().status(StackSetOperationResultStatus.SUCCEEDED).build())
+            .nextToken("token")
+            .build();
+
+        when(client.getTemplateSummary(any(GetTemplateSummaryRequest.class)))
+            .thenReturn(VALID_TEMPLATE_SUMMARY_RESPONSE);
+        when(client.createStackSet(any(CreateStackSetRequest.class)))
+            .thenReturn(CREATE_STACK_SET_RESPONSE);
+        when(client.createStackInstances(any(CreateStackInstancesRequest.class)))
+            .thenReturn(CREATE_STACK_INSTANCES_RESPONSE);
+        when(client.describeStackSetOperation(any(DescribeStackSetOperationRequest.class)))
+            .thenReturn(getFailedDescribeStackSetOperationResponse(null));
+        when(client.listStackSetOperationResults(any(ListStackSetOperationResultsRequest.class)))
+            .thenReturn(succeededPage);
+
+        Exception e = assertThrows(
+            CfnNotStabilizedException.class,
+            () -> handler.handleRequest(proxy, request, null, loggerProxy));
+
+        // Paging stops at twice the page limit, and the status of the operation stands in for the missing reasons
+        verify(client, times(10)).listStackSetOperationResults(any(ListStackSetOperationResultsRequest.class));
+        assertThat(e.getMessage()).contains("[Operation FAILED]");
+        assertThat(e.getMessage()).contains("list-stack-set-operation-results");
+    }
+
     @Test
     public void handlerRequest_CfnInvalidRequestException_NestedStackSet() {
 
         request = ResourceHandlerRequest.<ResourceModel>builder()
-                .desiredResourceState(SELF_MANAGED_ONE_INSTANCES_MODEL)
+                .desiredResourceState(SELF_MANAGED_NESTED_STACK_SET_MODEL)
                 .desiredResourceTags(DESIRED_RESOURCE_TAGS)
                 .logicalResourceIdentifier(LOGICAL_ID)
                 .clientRequestToken(REQUEST_TOKEN)
                 .build();
 
+
         when(client.getTemplateSummary(any(GetTemplateSummaryRequest.class)))
                 .thenReturn(TEMPLATE_SUMMARY_RESPONSE_WITH_NESTED_STACK_SET);
-
         assertThrows(
                 CfnInvalidRequestException.class,
                 () -> handler.handleRequest(proxy, request, null, loggerProxy));
@@ -532,11 +784,39 @@ public class CreateHandlerTest extends AbstractMockTestBase<CloudFormationClient
         verify(client).getTemplateSummary(any(GetTemplateSummaryRequest.class));
     }
 
+    @Test
+    public void handlerRequest_InvalidTemplate_RejectedBeforeCreateStackSet() {
+        AwsServiceException e = AwsServiceException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder()
+                        .errorCode("ValidationError")
+                        .sdkHttpResponse(SdkHttpResponse.builder()
+                                .statusCode(HttpStatusCode.BAD_REQUEST)
+                                .build())
+                        .build())
+                .build();
+        request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(SELF_MANAGED_MODEL)
+                .desiredResourceTags(DESIRED_RESOURCE_TAGS)
+                .logicalResourceIdentifier(LOGICAL_ID)
+                .clientRequestToken(REQUEST_TOKEN)
+                .build();
+
+        when(client.getTemplateSummary(any(GetTemplateSummaryRequest.class)))
+                .thenThrow(e);
+
+        assertThrows(
+                AwsServiceException.class,
+                () -> handler.handleRequest(proxy, request, null, loggerProxy));
+
+        verify(client).getTemplateSummary(any(GetTemplateSummaryRequest.class));
+        verify(client, never()).createStackSet(any(CreateStackSetRequest.class));
+    }
+
     @Test
     public void handlerRequest_CfnInvalidRequestException_ServiceManaged_With_NestedStack() {
 
         request = ResourceHandlerRequest.<ResourceModel>builder()
-                .desiredResourceState(DELEGATED_ADMIN_SERVICE_MANAGED_MODEL)
+                .desiredResourceState(SERVICE_MANAGED_NESTED_STACK_MODEL)
                 .desiredResourceTags(DESIRED_RESOURCE_TAGS)
                 .logicalResourceIdentifier(LOGICAL_ID)
                 .clientRequestToken(REQUEST_TOKEN)
@@ -602,6 +882,7 @@ public class CreateHandlerTest extends AbstractMockTestBase<CloudFormationClient
                 .clientRequestToken(REQUEST_TOKEN)
                 .build();
 
+
         when(client.getTemplateSummary(any(GetTemplateSummaryRequest.class)))
                 .thenReturn(VALID_TEMPLATE_SUMMARY_RESPONSE);
 
@@ -621,6 +902,7 @@ public class CreateHandlerTest extends AbstractMockTestBase<CloudFormationClient
                 .clientRequestToken(REQUEST_TOKEN)
                 .build();
 
+
         when(client.getTemplateSummary(any(GetTemplateSummaryRequest.class)))
                 .thenReturn(VALID_TEMPLATE_SUMMARY_RESPONSE);
 
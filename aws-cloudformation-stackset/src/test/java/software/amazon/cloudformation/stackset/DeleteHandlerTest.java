@@ -24,7 +24,6 @@ import software.amazon.cloudformation.test.AbstractMockTestBase;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.argThat;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static software.amazon.cloudformation.proxy.HandlerErrorCode.InvalidRequest;
@@ -197,8 +196,9 @@ public class DeleteHandlerTest extends AbstractMockTestBase<CloudFormationClient
         assertThat(response.getErrorCode()).isNull();
 
         verify(client).describeStackSet(any(DescribeStackSetRequest.class));
-        verify(client, times(3)).deleteStackInstances(any(DeleteStackInstancesRequest.class));
-        verify(client, times(3)).describeStackSetOperation(any(DescribeStackSetOperationRequest.class));
+        // Instances of the same targets are deleted in all regions in one operation
+        verify(client).deleteStackInstances(any(DeleteStackInstancesRequest.class));
+        verify(client).describeStackSetOperation(any(DescribeStackSetOperationRequest.class));
         verify(client).deleteStackSet(any(DeleteStackSetRequest.class));
     }
 
@@ -8,11 +8,15 @@ import software.amazon.awssdk.services.cloudformation.CloudFormationClient;
 import software.amazon.awssdk.services.cloudformation.model.DescribeStackSetRequest;
 import software.amazon.awssdk.services.cloudformation.model.ListStackInstancesRequest;
 import software.amazon.awssdk.services.cloudformation.model.ListStackSetsRequest;
+import software.amazon.awssdk.services.cloudformation.model.ListStackSetsResponse;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.test.AbstractMockTestBase;
 
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
@@ -22,6 +26,7 @@ import static software.amazon.cloudformation.stackset.util.TestUtils.LIST_SELF_M
 import static software.amazon.cloudformation.stackset.util.TestUtils.LIST_STACK_SETS_SELF_MANAGED_RESPONSE;
 import static software.amazon.cloudformation.stackset.util.TestUtils.READ_MODEL;
 import static software.amazon.cloudformation.stackset.util.TestUtils.SELF_MANAGED_MODEL_FOR_READ;
+import static software.amazon.cloudformation.stackset.util.TestUtils.STACK_SET_SUMMARY_SELF_MANAGED;
 
 @ExtendWith(MockitoExtension.class)
 public class ListHandlerTest extends AbstractMockTestBase<CloudFormationClient> {
@@ -68,4 +73,39 @@ public class ListHandlerTest extends AbstractMockTestBase<CloudFormationClient>
         verify(client).describeStackSet(any(DescribeStackSetRequest.class));
         verify(client).listStackInstances(any(ListStackInstancesRequest.class));
     }
+
+    @Test
+    public void handleRequest_HydrationDeadline_ReturnsIdentifierOnlyModels() {
+        handler = new ListHandler(Duration.ZERO);
+        final String slowStackSetId = "StackSet:slow-stack-set-id";
+        final CountDownLatch slowStackSetReleased = new CountDownLatch(1);
+
+        when(client.listStackSets(any(ListStackSetsRequest.class)))
+                .thenReturn(ListStackSetsResponse.builder()
+                        .summaries(STACK_SET_SUMMARY_SELF_MANAGED,
+                                STACK_SET_SUMMARY_SELF_MANAGED.toBuilder().stackSetId(slowStackSetId).build())
+                        .build());
+        when(client.describeStackSet(any(DescribeStackSetRequest.class))).thenAnswer(invocation -> {
+            final DescribeStackSetRequest describeRequest = invocation.getArgument(0);
+            if (slowStackSetId.equals(describeRequest.stackSetName())) {
+                slowStackSetReleased.await();
+            }
+            return DESCRIBE_SELF_MANAGED_STACK_SET_RESPONSE;
+        });
+        when(client.listStackInstances(any(ListStackInstancesRequest.class)))
+                .thenReturn(LIST_SELF_MANAGED_STACK_SET_RESPONSE);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response;
+        try {
+            response = handler.handleRequest(proxy, request, null, loggerProxy);
+        } finally {
+            slowStackSetReleased.countDown();
+        }
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        // The first model is always hydrated, the slow one is only identified
+        assertThat(response.getResourceModels()).containsExactly(SELF_MANAGED_MODEL_FOR_READ,
+                ResourceModel.builder().stackSetId(slowStackSetId).build());
+        assertThat(response.getNextToken()).isNull();
+    }
 }
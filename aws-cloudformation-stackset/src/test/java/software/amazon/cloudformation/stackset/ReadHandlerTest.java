@@ -9,7 +9,9 @@ import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.cloudformation.CloudFormationClient;
 import software.amazon.awssdk.services.cloudformation.model.CallAs;
 import software.amazon.awssdk.services.cloudformation.model.DescribeStackSetRequest;
+import software.amazon.awssdk.services.cloudformation.model.DescribeStackSetResponse;
 import software.amazon.awssdk.services.cloudformation.model.ListStackInstancesRequest;
+import software.amazon.awssdk.services.cloudformation.model.ListStackInstancesResponse;
 import software.amazon.awssdk.services.cloudformation.model.StackSetNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
@@ -22,6 +24,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.argThat;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static software.amazon.cloudformation.stackset.util.TestUtils.DELEGATED_ADMIN_SERVICE_MANAGED_MODEL_FOR_READ;
@@ -35,6 +38,7 @@ import static software.amazon.cloudformation.stackset.util.TestUtils.LIST_SERVIC
 import static software.amazon.cloudformation.stackset.util.TestUtils.READ_MODEL;
 import static software.amazon.cloudformation.stackset.util.TestUtils.READ_MODEL_DELEGATED_ADMIN;
 import static software.amazon.cloudformation.stackset.util.TestUtils.SELF_MANAGED_MODEL_FOR_READ;
+import static software.amazon.cloudformation.stackset.util.TestUtils.SELF_MANAGED_STACK_INSTANCE_SUMMARIES;
 
 @ExtendWith(MockitoExtension.class)
 public class ReadHandlerTest extends AbstractMockTestBase<CloudFormationClient> {
@@ -79,6 +83,37 @@ public class ReadHandlerTest extends AbstractMockTestBase<CloudFormationClient>
         verify(client).listStackInstances(any(ListStackInstancesRequest.class));
     }
 
+    @Test
+    public void handleRequest_SelfManagedSS_ListsStackInstancesOfUnreportedRegions() {
+
+        // The StackSet only reports one of the regions it has stack instances in
+        final DescribeStackSetResponse describeStackSetResponse = DESCRIBE_SELF_MANAGED_STACK_SET_RESPONSE.toBuilder()
+                .stackSet(DESCRIBE_SELF_MANAGED_STACK_SET_RESPONSE.stackSet().toBuilder()
+                        .regions(SELF_MANAGED_STACK_INSTANCE_SUMMARIES.get(0).region())
+                        .build())
+                .build();
+        final int half = SELF_MANAGED_STACK_INSTANCE_SUMMARIES.size() / 2;
+        when(client.describeStackSet(any(DescribeStackSetRequest.class)))
+                .thenReturn(describeStackSetResponse);
+        when(client.listStackInstances(any(ListStackInstancesRequest.class))).thenReturn(
+                ListStackInstancesResponse.builder()
+                        .summaries(SELF_MANAGED_STACK_INSTANCE_SUMMARIES.subList(0, half))
+                        .nextToken("token")
+                        .build(),
+                ListStackInstancesResponse.builder()
+                        .summaries(SELF_MANAGED_STACK_INSTANCE_SUMMARIES.subList(half, SELF_MANAGED_STACK_INSTANCE_SUMMARIES.size()))
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, loggerProxy);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(SELF_MANAGED_MODEL_FOR_READ);
+
+        verify(client, times(2)).listStackInstances(argThat(
+                (ListStackInstancesRequest req) -> req.stackInstanceRegion() == null));
+    }
+
     @Test
     public void handleRequest_PermissionModelIsNull() {
 
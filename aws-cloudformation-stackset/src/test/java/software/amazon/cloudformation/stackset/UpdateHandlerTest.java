@@ -23,6 +23,7 @@ import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.stackset.util.TemplateSummaryCache;
 import software.amazon.cloudformation.test.AbstractMockTestBase;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -45,7 +46,6 @@ import static software.amazon.cloudformation.stackset.util.AltTestUtils.region_1
 import static software.amazon.cloudformation.stackset.util.AltTestUtils.region_2;
 import static software.amazon.cloudformation.stackset.util.AltTestUtils.region_3;
 import static software.amazon.cloudformation.stackset.util.TestUtils.CREATE_STACK_INSTANCES_RESPONSE;
-import static software.amazon.cloudformation.stackset.util.TestUtils.CREATE_STACK_SET_RESPONSE;
 import static software.amazon.cloudformation.stackset.util.TestUtils.DELEGATED_ADMIN_SELF_MANAGED_MODEL;
 import static software.amazon.cloudformation.stackset.util.TestUtils.DELEGATED_ADMIN_SERVICE_MANAGED_MODEL;
 import static software.amazon.cloudformation.stackset.util.TestUtils.DELETE_STACK_INSTANCES_RESPONSE;
@@ -58,11 +58,12 @@ import static software.amazon.cloudformation.stackset.util.TestUtils.OPERATION_S
 import static software.amazon.cloudformation.stackset.util.TestUtils.PREVIOUS_RESOURCE_TAGS;
 import static software.amazon.cloudformation.stackset.util.TestUtils.REQUEST_TOKEN;
 import static software.amazon.cloudformation.stackset.util.TestUtils.SELF_MANAGED_MODEL;
-import static software.amazon.cloudformation.stackset.util.TestUtils.SELF_MANAGED_ONE_INSTANCES_MODEL;
+import static software.amazon.cloudformation.stackset.util.TestUtils.SELF_MANAGED_NESTED_STACK_SET_MODEL;
 import static software.amazon.cloudformation.stackset.util.TestUtils.SELF_MANAGED_WITH_ME_MODEL;
 import static software.amazon.cloudformation.stackset.util.TestUtils.SERVICE_MANAGED_MODEL;
-import static software.amazon.cloudformation.stackset.util.TestUtils.SERVICE_MANAGED_MODEL_AS_SELF;
+import static software.amazon.cloudformation.stackset.util.TestUtils.SERVICE_MANAGED_NESTED_STACK_MODEL;
 import static software.amazon.cloudformation.stackset.util.TestUtils.SIMPLE_MODEL;
+import static software.amazon.cloudformation.stackset.util.TestUtils.SIMPLE_NESTED_STACK_MODEL;
 import static software.amazon.cloudformation.stackset.util.TestUtils.TEMPLATE_SUMMARY_RESPONSE_WITH_NESTED_STACK;
 import static software.amazon.cloudformation.stackset.util.TestUtils.TEMPLATE_SUMMARY_RESPONSE_WITH_NESTED_STACK_SET;
 import static software.amazon.cloudformation.stackset.util.TestUtils.UPDATED_SELF_MANAGED_MODEL;
@@ -84,6 +85,7 @@ public class UpdateHandlerTest extends AbstractMockTestBase<CloudFormationClient
     public void setup() {
         client = getServiceClient();
         handler = new UpdateHandler();
+        TemplateSummaryCache.clear();
     }
 
     @Test
@@ -104,10 +106,10 @@ public class UpdateHandlerTest extends AbstractMockTestBase<CloudFormationClient
                 .desiredResourceTags(DESIRED_RESOURCE_TAGS)
                 .build();
 
-        when(client.describeStackSet(any(DescribeStackSetRequest.class)))
-                .thenReturn(DESCRIBE_SELF_MANAGED_STACK_SET_ME_DISABLED_RESPONSE);
         when(client.getTemplateSummary(any(GetTemplateSummaryRequest.class)))
                 .thenReturn(VALID_TEMPLATE_SUMMARY_RESPONSE);
+        when(client.describeStackSet(any(DescribeStackSetRequest.class)))
+                .thenReturn(DESCRIBE_SELF_MANAGED_STACK_SET_ME_DISABLED_RESPONSE);
         when(client.updateStackSet(any(UpdateStackSetRequest.class)))
                 .thenReturn(UPDATE_STACK_SET_RESPONSE);
         when(client.createStackInstances(any(CreateStackInstancesRequest.class)))
@@ -148,10 +150,10 @@ public class UpdateHandlerTest extends AbstractMockTestBase<CloudFormationClient
                 .desiredResourceTags(DESIRED_RESOURCE_TAGS)
                 .build();
 
-        when(client.describeStackSet(any(DescribeStackSetRequest.class)))
-                .thenReturn(DESCRIBE_SELF_MANAGED_STACK_SET_ME_DISABLED_RESPONSE);
         when(client.getTemplateSummary(any(GetTemplateSummaryRequest.class)))
                 .thenReturn(VALID_TEMPLATE_SUMMARY_RESPONSE);
+        when(client.describeStackSet(any(DescribeStackSetRequest.class)))
+                .thenReturn(DESCRIBE_SELF_MANAGED_STACK_SET_ME_DISABLED_RESPONSE);
         when(client.updateStackSet(any(UpdateStackSetRequest.class)))
                 .thenReturn(UPDATE_STACK_SET_RESPONSE);
         when(client.createStackInstances(any(CreateStackInstancesRequest.class)))
@@ -192,10 +194,10 @@ public class UpdateHandlerTest extends AbstractMockTestBase<CloudFormationClient
                 .desiredResourceTags(DESIRED_RESOURCE_TAGS)
                 .build();
 
-        when(client.describeStackSet(any(DescribeStackSetRequest.class)))
-                .thenReturn(DESCRIBE_SERVICE_MANAGED_STACK_SET_RESPONSE);
         when(client.getTemplateSummary(any(GetTemplateSummaryRequest.class)))
                 .thenReturn(VALID_TEMPLATE_SUMMARY_RESPONSE);
+        when(client.describeStackSet(any(DescribeStackSetRequest.class)))
+                .thenReturn(DESCRIBE_SERVICE_MANAGED_STACK_SET_RESPONSE);
         when(client.updateStackSet(any(UpdateStackSetRequest.class)))
                 .thenReturn(UPDATE_STACK_SET_RESPONSE);
         when(client.createStackInstances(any(CreateStackInstancesRequest.class)))
@@ -251,10 +253,10 @@ public class UpdateHandlerTest extends AbstractMockTestBase<CloudFormationClient
                 .build();
 
 
-        when(client.describeStackSet(any(DescribeStackSetRequest.class)))
-                .thenReturn(DESCRIBE_SELF_MANAGED_STACK_SET_ME_DISABLED_RESPONSE);
         when(client.getTemplateSummary(any(GetTemplateSummaryRequest.class)))
                 .thenReturn(VALID_TEMPLATE_SUMMARY_RESPONSE);
+        when(client.describeStackSet(any(DescribeStackSetRequest.class)))
+                .thenReturn(DESCRIBE_SELF_MANAGED_STACK_SET_ME_DISABLED_RESPONSE);
         when(client.updateStackSet(any(UpdateStackSetRequest.class)))
                 .thenThrow(e);
 
@@ -281,10 +283,10 @@ public class UpdateHandlerTest extends AbstractMockTestBase<CloudFormationClient
                 .desiredResourceTags(DESIRED_RESOURCE_TAGS)
                 .build();
 
-        when(client.describeStackSet(any(DescribeStackSetRequest.class)))
-                .thenReturn(DESCRIBE_SELF_MANAGED_STACK_SET_ME_DISABLED_RESPONSE);
         when(client.getTemplateSummary(any(GetTemplateSummaryRequest.class)))
                 .thenReturn(VALID_TEMPLATE_SUMMARY_RESPONSE);
+        when(client.describeStackSet(any(DescribeStackSetRequest.class)))
+                .thenReturn(DESCRIBE_SELF_MANAGED_STACK_SET_ME_DISABLED_RESPONSE);
 
         final ProgressEvent<ResourceModel, CallbackContext> response
                 = handler.handleRequest(proxy, request, null, loggerProxy);
@@ -305,16 +307,16 @@ public class UpdateHandlerTest extends AbstractMockTestBase<CloudFormationClient
     public void handleRequest_SelfManagedSS_Nested_Stack_SimpleSuccess() {
 
         request = ResourceHandlerRequest.<ResourceModel>builder()
-                .previousResourceState(SIMPLE_MODEL)
-                .desiredResourceState(SIMPLE_MODEL)
+                .previousResourceState(SIMPLE_NESTED_STACK_MODEL)
+                .desiredResourceState(SIMPLE_NESTED_STACK_MODEL)
                 .logicalResourceIdentifier(LOGICAL_ID)
                 .desiredResourceTags(DESIRED_RESOURCE_TAGS)
                 .clientRequestToken(REQUEST_TOKEN)
                 .build();
+        when(client.getTemplateSummary(any(GetTemplateSummaryRequest.class)))
+                .thenReturn(VALID_TEMPLATE_SUMMARY_RESPONSE);
         when(client.describeStackSet(any(DescribeStackSetRequest.class)))
                 .thenReturn(DESCRIBE_SELF_MANAGED_STACK_SET_RESPONSE);
-        when(client.getTemplateSummary(any(GetTemplateSummaryRequest.class)))
-                .thenReturn(TEMPLATE_SUMMARY_RESPONSE_WITH_NESTED_STACK);
         when(client.updateStackSet(any(UpdateStackSetRequest.class)))
                 .thenReturn(UPDATE_STACK_SET_RESPONSE);
         when(client.describeStackSetOperation(any(DescribeStackSetOperationRequest.class)))
@@ -327,7 +329,7 @@ public class UpdateHandlerTest extends AbstractMockTestBase<CloudFormationClient
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
         assertThat(response.getCallbackContext()).isNull();
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
-        assertThat(response.getResourceModel()).isEqualTo(SIMPLE_MODEL);
+        assertThat(response.getResourceModel()).isEqualTo(SIMPLE_NESTED_STACK_MODEL);
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
 
@@ -345,10 +347,10 @@ public class UpdateHandlerTest extends AbstractMockTestBase<CloudFormationClient
                 .desiredResourceTags(DESIRED_RESOURCE_TAGS)
                 .build();
 
-        when(client.describeStackSet(any(DescribeStackSetRequest.class)))
-                .thenReturn(DESCRIBE_SELF_MANAGED_STACK_SET_RESPONSE);
         when(client.getTemplateSummary(any(GetTemplateSummaryRequest.class)))
                 .thenReturn(VALID_TEMPLATE_SUMMARY_RESPONSE);
+        when(client.describeStackSet(any(DescribeStackSetRequest.class)))
+                .thenReturn(DESCRIBE_SELF_MANAGED_STACK_SET_RESPONSE);
         when(client.updateStackSet(any(UpdateStackSetRequest.class)))
                 .thenReturn(UPDATE_STACK_SET_RESPONSE);
         when(client.createStackInstances(any(CreateStackInstancesRequest.class)))
@@ -389,10 +391,10 @@ public class UpdateHandlerTest extends AbstractMockTestBase<CloudFormationClient
                 .desiredResourceTags(DESIRED_RESOURCE_TAGS)
                 .build();
 
-        when(client.describeStackSet(any(DescribeStackSetRequest.class)))
-                .thenReturn(DESCRIBE_SELF_MANAGED_STACK_SET_ME_DISABLED_RESPONSE);
         when(client.getTemplateSummary(any(GetTemplateSummaryRequest.class)))
                 .thenReturn(VALID_TEMPLATE_SUMMARY_RESPONSE);
+        when(client.describeStackSet(any(DescribeStackSetRequest.class)))
+                .thenReturn(DESCRIBE_SELF_MANAGED_STACK_SET_ME_DISABLED_RESPONSE);
         when(client.updateStackSet(any(UpdateStackSetRequest.class)))
                 .thenReturn(UPDATE_STACK_SET_RESPONSE);
         when(client.createStackInstances(any(CreateStackInstancesRequest.class)))
@@ -427,16 +429,16 @@ public class UpdateHandlerTest extends AbstractMockTestBase<CloudFormationClient
     public void handlerRequest_CfnInvalidRequestException_NestedStackSet() {
 
         request = ResourceHandlerRequest.<ResourceModel>builder()
-                .previousResourceState(SERVICE_MANAGED_MODEL_AS_SELF)
-                .desiredResourceState(SERVICE_MANAGED_MODEL_AS_SELF)
+                .previousResourceState(SELF_MANAGED_NESTED_STACK_SET_MODEL)
+                .desiredResourceState(SELF_MANAGED_NESTED_STACK_SET_MODEL)
                 .desiredResourceTags(DESIRED_RESOURCE_TAGS)
                 .logicalResourceIdentifier(LOGICAL_ID)
                 .clientRequestToken(REQUEST_TOKEN)
                 .build();
 
+
         when(client.getTemplateSummary(any(GetTemplateSummaryRequest.class)))
                 .thenReturn(TEMPLATE_SUMMARY_RESPONSE_WITH_NESTED_STACK_SET);
-
         assertThrows(
                 CfnInvalidRequestException.class,
                 () -> handler.handleRequest(proxy, request, null, loggerProxy));
@@ -449,15 +451,15 @@ public class UpdateHandlerTest extends AbstractMockTestBase<CloudFormationClient
 
         request = ResourceHandlerRequest.<ResourceModel>builder()
                 .previousResourceState(SIMPLE_MODEL)
-                .desiredResourceState(DELEGATED_ADMIN_SERVICE_MANAGED_MODEL)
+                .desiredResourceState(SERVICE_MANAGED_NESTED_STACK_MODEL)
                 .desiredResourceTags(DESIRED_RESOURCE_TAGS)
                 .logicalResourceIdentifier(LOGICAL_ID)
                 .clientRequestToken(REQUEST_TOKEN)
                 .build();
 
+
         when(client.getTemplateSummary(any(GetTemplateSummaryRequest.class)))
                 .thenReturn(TEMPLATE_SUMMARY_RESPONSE_WITH_NESTED_STACK);
-
         assertThrows(
                 CfnInvalidRequestException.class,
                 () -> handler.handleRequest(proxy, request, null, loggerProxy));
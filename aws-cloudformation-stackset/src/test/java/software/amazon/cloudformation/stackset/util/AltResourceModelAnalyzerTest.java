@@ -664,4 +664,49 @@ public class AltResourceModelAnalyzerTest {
         );
         assertThat(ex.getMessage()).contains("An OrganizationalUnitIds cannot be associated with more than one Parameters set");
     }
+
+    @Test
+    public void test_ALT_Update_Many_Regions_Parallel_Matches_Sequential() {
+        List<String> regions = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            regions.add("region-" + i);
+        }
+        List<String> regionOrder = new ArrayList<>(regions);
+        Collections.reverse(regionOrder);
+
+        Set<StackInstances> previousInstancesGroup = new HashSet<>();
+        Set<StackInstances> currentInstancesGroup = new HashSet<>();
+        String[] filters = {INTER, DIFF, NONE};
+        for (int i = 0; i < 500; i++) {
+            String ou = "ou-example-" + i;
+            String previousFilter = filters[i % 3];
+            String currentFilter = filters[(i + 1) % 3];
+            previousInstancesGroup.add(generateInstancesWithRegions(ou,
+                    previousFilter.equals(NONE) ? new ArrayList<>() : Arrays.asList(account_1, account_2),
+                    previousFilter, new HashSet<>(regions)));
+            currentInstancesGroup.add(generateInstancesWithRegions(ou,
+                    currentFilter.equals(NONE) ? new ArrayList<>() : Arrays.asList(account_2, account_3),
+                    currentFilter, new HashSet<>(regions)));
+        }
+        ResourceModel previousModel = generateModel(previousInstancesGroup);
+        ResourceModel currentModel = generateModel(currentInstancesGroup);
+        currentModel.setOperationPreferences(new OperationPreferences(null, null, null, null, regionOrder, null, null));
+
+        StackInstancesPlaceHolder sequentialPlaceHolder = new StackInstancesPlaceHolder();
+        AltResourceModelAnalyzer.builder().previousModel(previousModel).currentModel(currentModel).parallel(false).build()
+                .analyze(sequentialPlaceHolder);
+        StackInstancesPlaceHolder parallelPlaceHolder = new StackInstancesPlaceHolder();
+        AltResourceModelAnalyzer.builder().previousModel(previousModel).currentModel(currentModel).build()
+                .analyze(parallelPlaceHolder);
+
+        assertThat(parallelPlaceHolder.getDeleteStackInstances()).isEqualTo(sequentialPlaceHolder.getDeleteStackInstances());
+        assertThat(parallelPlaceHolder.getCreateStackInstances()).isEqualTo(sequentialPlaceHolder.getCreateStackInstances());
+        assertThat(parallelPlaceHolder.getUpdateStackInstances()).isEqualTo(sequentialPlaceHolder.getUpdateStackInstances());
+        assertThat(parallelPlaceHolder.getUpdateStackInstances()).hasSize(500 * 30);
+
+        // The operations still follow the RegionOrder
+        assertThat(parallelPlaceHolder.getUpdateStackInstances().get(0).getRegions()).containsExactly(regionOrder.get(0));
+        assertThat(parallelPlaceHolder.getUpdateStackInstances().get(500 * 30 - 1).getRegions())
+                .containsExactly(regionOrder.get(29));
+    }
 }
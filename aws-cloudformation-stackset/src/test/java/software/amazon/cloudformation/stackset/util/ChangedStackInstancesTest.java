@@ -0,0 +1,103 @@
+package software.amazon.cloudformation.stackset.util;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.stackset.DeploymentTargets;
+import software.amazon.cloudformation.stackset.Parameter;
+import software.amazon.cloudformation.stackset.ResourceModel;
+import software.amazon.cloudformation.stackset.StackInstances;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.account_1;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.account_2;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.account_3;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.parameters_1;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.region_1;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.region_2;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.region_3;
+
+public class ChangedStackInstancesTest {
+
+    private static StackInstances selfManagedInstances(final Set<String> accounts, final Set<String> regions,
+                                                       final Set<Parameter> parameters) {
+        return StackInstances.builder()
+                .deploymentTargets(DeploymentTargets.builder().accounts(accounts).build())
+                .regions(regions)
+                .parameterOverrides(parameters)
+                .build();
+    }
+
+    private static Set<String> setOf(final String... values) {
+        return new HashSet<>(Arrays.asList(values));
+    }
+
+    private static ResourceModel selfManagedModel(final StackInstances... stackInstancesGroup) {
+        return ResourceModel.builder()
+                .permissionModel("SELF_MANAGED")
+                .stackInstancesGroup(new HashSet<>(Arrays.asList(stackInstancesGroup)))
+                .build();
+    }
+
+    @Test
+    public void testOf_OnlyChangedEntries() {
+        final StackInstances unchanged = selfManagedInstances(setOf(account_1), setOf(region_1, region_2), null);
+        final StackInstances previous = selfManagedInstances(setOf(account_2), setOf(region_3), null);
+        final StackInstances desired = selfManagedInstances(setOf(account_2), setOf(region_3), parameters_1);
+
+        final ChangedStackInstances changed = ChangedStackInstances.of(
+                Arrays.asList(unchanged, previous), Arrays.asList(unchanged, desired), true);
+
+        assertThat(changed.getPreviousEntries()).containsExactly(previous);
+        assertThat(changed.getDesiredEntries()).containsExactly(desired);
+    }
+
+    @Test
+    public void testOf_OverlappingEntriesFallBack() {
+        final StackInstances unchanged = selfManagedInstances(setOf(account_1), setOf(region_1, region_2), null);
+        final StackInstances desired = selfManagedInstances(setOf(account_1, account_2), setOf(region_2), null);
+
+        assertThat(ChangedStackInstances.of(Arrays.asList(unchanged), Arrays.asList(unchanged, desired), true)).isNull();
+        // Nothing in common
+        assertThat(ChangedStackInstances.of(Arrays.asList(desired), Arrays.asList(unchanged), true)).isNull();
+    }
+
+    @Test
+    public void testAnalyzeForUpdate_IncrementalMatchesFull() {
+        final StackInstances unchanged = selfManagedInstances(setOf(account_1), setOf(region_1, region_2), null);
+        final ResourceModel previousModel = selfManagedModel(unchanged,
+                selfManagedInstances(setOf(account_2, account_3), setOf(region_3), null));
+        final ResourceModel desiredModel = selfManagedModel(unchanged,
+                selfManagedInstances(setOf(account_2), setOf(region_3), parameters_1),
+                selfManagedInstances(setOf(account_3), setOf(region_1), null));
+
+        final StackInstancesPlaceHolder incremental = new StackInstancesPlaceHolder();
+        InstancesAnalyzer.builder().previousModel(previousModel).desiredModel(desiredModel).build()
+                .analyzeForUpdate(incremental);
+        final StackInstancesPlaceHolder full = new StackInstancesPlaceHolder();
+        InstancesAnalyzer.builder().previousModel(previousModel).desiredModel(desiredModel).incremental(false).build()
+                .analyzeForUpdate(full);
+
+        assertThat(incremental.getCreateStackInstances()).containsExactlyInAnyOrderElementsOf(full.getCreateStackInstances());
+        assertThat(incremental.getDeleteStackInstances()).containsExactlyInAnyOrderElementsOf(full.getDeleteStackInstances());
+        assertThat(incremental.getUpdateStackInstances()).containsExactlyInAnyOrderElementsOf(full.getUpdateStackInstances());
+        assertThat(incremental.getCreateStackInstances()).containsExactly(
+                selfManagedInstances(setOf(account_3), setOf(region_1), null));
+    }
+
+    @Test
+    public void testAnalyzeForUpdate_DuplicateAcrossEntries() {
+        final StackInstances unchanged = selfManagedInstances(setOf(account_1), setOf(region_1), null);
+        final ResourceModel previousModel = selfManagedModel(unchanged);
+        final ResourceModel desiredModel = selfManagedModel(unchanged,
+                selfManagedInstances(setOf(account_1), setOf(region_1), parameters_1));
+
+        assertThrows(CfnInvalidRequestException.class, () -> InstancesAnalyzer.builder()
+                .previousModel(previousModel).desiredModel(desiredModel).build()
+                .analyzeForUpdate(new StackInstancesPlaceHolder()));
+    }
+}
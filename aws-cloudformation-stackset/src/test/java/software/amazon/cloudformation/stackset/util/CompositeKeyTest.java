@@ -0,0 +1,58 @@
+package software.amazon.cloudformation.stackset.util;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.stackset.DeploymentTargets;
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.INTER;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.OU_1;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.OU_2;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.account_1;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.account_2;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.parameters_1;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.parameters_2;
+
+public class CompositeKeyTest {
+
+    @Test
+    public void testOuFilterKey() {
+        assertThat(new OuFilterKey(OU_1, INTER)).isEqualTo(new OuFilterKey(OU_1, INTER));
+        assertThat(new OuFilterKey(OU_1, INTER).hashCode()).isEqualTo(new OuFilterKey(OU_1, INTER).hashCode());
+        assertThat(new OuFilterKey(OU_1, INTER)).isNotEqualTo(new OuFilterKey(OU_2, INTER));
+    }
+
+    @Test
+    public void testRegionSetKey_CopiesRegionSet() {
+        final BitSet regions = new BitSet();
+        regions.set(1);
+        final RegionSetKey key = new RegionSetKey(regions, 0);
+        final int hashCode = key.hashCode();
+
+        regions.set(2);
+
+        assertThat(key.hashCode()).isEqualTo(hashCode);
+        assertThat(key).isNotEqualTo(new RegionSetKey(regions, 0));
+        regions.clear(2);
+        assertThat(key).isEqualTo(new RegionSetKey(regions, 0));
+        assertThat(key).isNotEqualTo(new RegionSetKey(regions, 1));
+    }
+
+    @Test
+    public void testTargetParamKey_CopiesTargets() {
+        final DeploymentTargets targets = DeploymentTargets.builder()
+                .accounts(new HashSet<>(Arrays.asList(account_1)))
+                .build();
+        final TargetParamKey key = new TargetParamKey(targets, parameters_1);
+        final int hashCode = key.hashCode();
+
+        targets.getAccounts().add(account_2);
+
+        assertThat(key.hashCode()).isEqualTo(hashCode);
+        assertThat(key.getAccounts()).containsExactly(account_1);
+        assertThat(key).isNotEqualTo(new TargetParamKey(targets, parameters_1));
+        assertThat(new TargetParamKey(targets, parameters_1)).isEqualTo(new TargetParamKey(targets, parameters_1));
+        assertThat(new TargetParamKey(targets, parameters_1)).isNotEqualTo(new TargetParamKey(targets, parameters_2));
+    }
+}
@@ -0,0 +1,82 @@
+package software.amazon.cloudformation.stackset.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.stackset.Parameter;
+import software.amazon.cloudformation.stackset.StackInstances;
+import software.amazon.cloudformation.stackset.util.AltStackInstancesCalculator.TargetChanges;
+import software.amazon.cloudformation.stackset.util.OuFilterNormalizer.OuFilterState;
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.DIFF;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.INTER;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.OU_1;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.OU_2;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.account_1;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.account_2;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.account_3;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.generateInstancesWithRegions;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.parameters_1;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.region_1;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.region_2;
+
+public class OuFilterNormalizerTest {
+
+    @Test
+    public void test_Regions_With_Same_Targets_Share_State() {
+        OuFilterNormalizer normalizer = new OuFilterNormalizer();
+
+        OuFilterState region1State = normalizer.normalize(new HashSet<>(Arrays.asList(
+                generateInstancesWithRegions(OU_1, Arrays.asList(account_1, account_2), INTER, region_1),
+                generateInstancesWithRegions(OU_2, Arrays.asList(account_1), DIFF, region_1))));
+        OuFilterState region2State = normalizer.normalize(new HashSet<>(Arrays.asList(
+                generateInstancesWithRegions(OU_1, Arrays.asList(account_1, account_2), INTER, region_2),
+                generateInstancesWithRegions(OU_2, Arrays.asList(account_1), DIFF, region_2))));
+        OuFilterState otherState = normalizer.normalize(new HashSet<>(Arrays.asList(
+                generateInstancesWithRegions(OU_1, Arrays.asList(account_3), INTER, region_2))));
+
+        assertThat(region2State).isSameAs(region1State);
+        assertThat(otherState).isNotSameAs(region1State);
+        assertThat(region1State.getOus()).containsExactlyInAnyOrder(OU_1, OU_2);
+        assertThat(region1State.getAccountsByOuFilter().get(new OuFilterKey(OU_1, INTER)))
+                .containsExactlyInAnyOrder(account_1, account_2);
+    }
+
+    @Test
+    public void test_Target_Changes_Match_Calculator() {
+        Set<StackInstances> previousGroup = new HashSet<>(Arrays.asList(
+                generateInstancesWithRegions(OU_1, Arrays.asList(account_1, account_2), INTER, region_1),
+                generateInstancesWithRegions(OU_2, Arrays.asList(account_1), DIFF, region_1)));
+        Set<StackInstances> currentGroup = new HashSet<>(Arrays.asList(
+                generateInstancesWithRegions(OU_1, Arrays.asList(account_2, account_3), DIFF, region_1),
+                generateInstancesWithRegions(OU_2, Arrays.asList(account_2), DIFF, region_1)));
+        HashMap<String, Set<Parameter>> ouDeploymentParametersMap = new HashMap<>();
+        ouDeploymentParametersMap.put(OU_1, parameters_1);
+        ouDeploymentParametersMap.put(OU_2, parameters_1);
+
+        Set<StackInstances> desiredDeleteInstances = new LinkedHashSet<>();
+        Set<StackInstances> desiredCreateInstances = new LinkedHashSet<>();
+        Set<StackInstances> desiredUpdateInstances = new LinkedHashSet<>();
+        new AltStackInstancesCalculator(region_1, previousGroup, currentGroup)
+                .calculate(desiredDeleteInstances, desiredCreateInstances, desiredUpdateInstances, ouDeploymentParametersMap);
+
+        OuFilterNormalizer normalizer = new OuFilterNormalizer();
+        OuFilterState previousState = normalizer.normalize(previousGroup);
+        OuFilterState currentState = normalizer.normalize(currentGroup);
+        TargetChanges targetChanges = normalizer.targetChanges(previousState, currentState, ouDeploymentParametersMap);
+        assertThat(normalizer.targetChanges(previousState, currentState, ouDeploymentParametersMap)).isSameAs(targetChanges);
+
+        Set<StackInstances> deleteInstances = new LinkedHashSet<>();
+        Set<StackInstances> createInstances = new LinkedHashSet<>();
+        Set<StackInstances> updateInstances = new LinkedHashSet<>();
+        targetChanges.addTo(region_1, deleteInstances, createInstances, updateInstances);
+
+        assertThat(deleteInstances).isEqualTo(desiredDeleteInstances);
+        assertThat(createInstances).isEqualTo(desiredCreateInstances);
+        assertThat(updateInstances).isEqualTo(desiredUpdateInstances);
+        assertThat(updateInstances).isNotEmpty();
+    }
+}
@@ -0,0 +1,73 @@
+package software.amazon.cloudformation.stackset.util;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.stackset.DeploymentTargets;
+import software.amazon.cloudformation.stackset.StackInstances;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.OU_1;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.OU_2;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.OU_3;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.account_1;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.account_2;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.parameters_1;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.region_1;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.region_2;
+
+public class StackInstancesAggregatorTest {
+
+    @Test
+    public void testAggregate_ServiceManaged() {
+        final StackInstancesAggregator aggregator = new StackInstancesAggregator(false);
+        aggregator.accept(region_1, OU_1, null);
+        aggregator.accept(region_2, OU_1, null);
+        aggregator.accept(region_2, OU_2, null);
+        aggregator.accept(region_1, OU_2, null);
+        aggregator.accept(region_1, OU_3, null);
+        // Duplicated instances are ignored
+        aggregator.accept(region_1, OU_3, null);
+
+        assertThat(aggregator.aggregate()).containsExactlyInAnyOrder(
+                StackInstances.builder()
+                        .regions(new HashSet<>(Arrays.asList(region_1, region_2)))
+                        .deploymentTargets(DeploymentTargets.builder()
+                                .organizationalUnitIds(new HashSet<>(Arrays.asList(OU_1, OU_2))).build())
+                        .build(),
+                StackInstances.builder()
+                        .regions(new HashSet<>(Arrays.asList(region_1)))
+                        .deploymentTargets(DeploymentTargets.builder()
+                                .organizationalUnitIds(new HashSet<>(Arrays.asList(OU_3))).build())
+                        .build());
+    }
+
+    @Test
+    public void testAggregate_SelfManagedWithParameters() {
+        final StackInstancesAggregator aggregator = new StackInstancesAggregator(true);
+        aggregator.accept(StackInstance.builder().region(region_1).deploymentTarget(account_1).build());
+        aggregator.accept(StackInstance.builder().region(region_1).deploymentTarget(account_2)
+                .parameters(new HashSet<>(parameters_1)).build());
+        aggregator.accept(StackInstance.builder().region(region_2).deploymentTarget(account_2)
+                .parameters(new HashSet<>(parameters_1)).build());
+
+        assertThat(aggregator.aggregate()).containsExactlyInAnyOrder(
+                StackInstances.builder()
+                        .regions(new HashSet<>(Arrays.asList(region_1)))
+                        .deploymentTargets(DeploymentTargets.builder()
+                                .accounts(new HashSet<>(Arrays.asList(account_1))).build())
+                        .build(),
+                StackInstances.builder()
+                        .regions(new HashSet<>(Arrays.asList(region_1, region_2)))
+                        .deploymentTargets(DeploymentTargets.builder()
+                                .accounts(new HashSet<>(Arrays.asList(account_2))).build())
+                        .parameterOverrides(parameters_1)
+                        .build());
+    }
+
+    @Test
+    public void testAggregate_Empty() {
+        assertThat(new StackInstancesAggregator(true).aggregate()).isEmpty();
+    }
+}
@@ -0,0 +1,123 @@
+package software.amazon.cloudformation.stackset.util;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.stackset.DeploymentTargets;
+import software.amazon.cloudformation.stackset.Parameter;
+import software.amazon.cloudformation.stackset.StackInstances;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.account_1;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.account_2;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.account_3;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.parameters_1;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.region_1;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.region_2;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.region_3;
+
+public class StackInstancesDifferTest {
+
+    private static StackInstances selfManagedInstances(final Set<String> accounts, final Set<String> regions,
+                                                       final Set<Parameter> parameters) {
+        return StackInstances.builder()
+                .deploymentTargets(DeploymentTargets.builder().accounts(accounts).build())
+                .regions(regions)
+                .parameterOverrides(parameters)
+                .build();
+    }
+
+    private static Set<String> setOf(final String... values) {
+        return new HashSet<>(Arrays.asList(values));
+    }
+
+    @Test
+    public void testDiff_CreateDeleteUpdate() {
+        final Set<StackInstances> previousGroup = new HashSet<>(Arrays.asList(
+                selfManagedInstances(setOf(account_1, account_2), setOf(region_1, region_2), null)
+        ));
+        final Set<StackInstances> desiredGroup = new HashSet<>(Arrays.asList(
+                selfManagedInstances(setOf(account_1), setOf(region_1, region_2), null),
+                selfManagedInstances(setOf(account_2), setOf(region_1), parameters_1),
+                selfManagedInstances(setOf(account_3), setOf(region_3), null)
+        ));
+
+        final StackInstancesPlaceHolder placeHolder = new StackInstancesPlaceHolder();
+        new StackInstancesDiffer(true).diff(previousGroup, desiredGroup, placeHolder);
+
+        assertThat(placeHolder.getCreateStackInstances()).containsExactly(
+                selfManagedInstances(setOf(account_3), setOf(region_3), null));
+        assertThat(placeHolder.getDeleteStackInstances()).containsExactly(
+                selfManagedInstances(setOf(account_2), setOf(region_2), null));
+        assertThat(placeHolder.getUpdateStackInstances()).containsExactly(
+                selfManagedInstances(setOf(account_2), setOf(region_1), parameters_1));
+    }
+
+    @Test
+    public void testDiff_EqualParametersByValue() {
+        final Set<Parameter> parametersCopy = new HashSet<>(parameters_1);
+        final Set<StackInstances> previousGroup = Collections.singleton(
+                selfManagedInstances(setOf(account_1), setOf(region_1), parameters_1));
+        final Set<StackInstances> desiredGroup = Collections.singleton(
+                selfManagedInstances(setOf(account_1), setOf(region_1), parametersCopy));
+
+        final StackInstancesPlaceHolder placeHolder = new StackInstancesPlaceHolder();
+        new StackInstancesDiffer(true).diff(previousGroup, desiredGroup, placeHolder);
+
+        assertThat(placeHolder.getCreateStackInstances()).isEmpty();
+        assertThat(placeHolder.getDeleteStackInstances()).isEmpty();
+        assertThat(placeHolder.getUpdateStackInstances()).isEmpty();
+    }
+
+    @Test
+    public void testDiff_NullAndEmptyParametersDiffer() {
+        final Set<StackInstances> previousGroup = Collections.singleton(
+                selfManagedInstances(setOf(account_1), setOf(region_1), null));
+        final Set<StackInstances> desiredGroup = Collections.singleton(
+                selfManagedInstances(setOf(account_1), setOf(region_1), new HashSet<>()));
+
+        final StackInstancesPlaceHolder placeHolder = new StackInstancesPlaceHolder();
+        new StackInstancesDiffer(true).diff(previousGroup, desiredGroup, placeHolder);
+
+        assertThat(placeHolder.getUpdateStackInstances()).hasSize(1);
+    }
+
+    @Test
+    public void testDiff_EmptyPreviousGroup() {
+        final Set<StackInstances> desiredGroup = Collections.singleton(
+                selfManagedInstances(setOf(account_1, account_2), setOf(region_1), null));
+
+        final StackInstancesPlaceHolder placeHolder = new StackInstancesPlaceHolder();
+        new StackInstancesDiffer(true).diff(null, desiredGroup, placeHolder);
+
+        assertThat(placeHolder.getCreateStackInstances()).containsExactly(
+                selfManagedInstances(setOf(account_1, account_2), setOf(region_1), null));
+        assertThat(placeHolder.getDeleteStackInstances()).isEmpty();
+        assertThat(placeHolder.getUpdateStackInstances()).isEmpty();
+    }
+
+    @Test
+    public void testDiff_DuplicatedInstance() {
+        final Set<StackInstances> desiredGroup = new HashSet<>(Arrays.asList(
+                selfManagedInstances(setOf(account_1), setOf(region_1), null),
+                selfManagedInstances(setOf(account_1), setOf(region_1, region_2), parameters_1)
+        ));
+
+        assertThrows(CfnInvalidRequestException.class,
+                () -> new StackInstancesDiffer(true).diff(null, desiredGroup, new StackInstancesPlaceHolder()));
+    }
+
+    @Test
+    public void testDiff_MissingDeploymentTargets() {
+        final Set<StackInstances> desiredGroup = Collections.singleton(
+                selfManagedInstances(null, setOf(region_1), null));
+
+        assertThrows(CfnInvalidRequestException.class,
+                () -> new StackInstancesDiffer(true).diff(null, desiredGroup, new StackInstancesPlaceHolder()));
+    }
+}
@@ -0,0 +1,94 @@
+package software.amazon.cloudformation.stackset.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.stackset.DeploymentTargets;
+import software.amazon.cloudformation.stackset.StackInstances;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.INTER;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.OU_1;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.account_1;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.generateInstancesWithRegions;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.parameters_1;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.region_1;
+import static software.amazon.cloudformation.stackset.util.TestUtils.SELF_MANAGED_STACK_INSTANCES_1;
+import static software.amazon.cloudformation.stackset.util.TestUtils.SELF_MANAGED_STACK_INSTANCES_4;
+import static software.amazon.cloudformation.stackset.util.TestUtils.SERVICE_MANAGED_STACK_INSTANCES;
+
+public class StackInstancesPlanCodecTest {
+
+    private static StackInstancesPlaceHolder largePlan() {
+        // 100 groups of 100 accounts out of 1000 in 10 regions, i.e. 100k stack instances
+        final List<String> accounts = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            accounts.add(String.format("%012d", 100000000000L + i * 7919L));
+        }
+        final List<String> regions = Arrays.asList("us-east-1", "us-east-2", "us-west-1", "us-west-2",
+                "eu-west-1", "eu-west-2", "eu-central-1", "ap-south-1", "ap-northeast-1", "sa-east-1");
+
+        final List<StackInstances> stackInstancesList = new ArrayList<>();
+        for (int group = 0; group < 100; group++) {
+            final Set<String> groupAccounts = new HashSet<>();
+            for (int i = 0; i < 100; i++) {
+                groupAccounts.add(accounts.get((group * 10 + i) % accounts.size()));
+            }
+            stackInstancesList.add(StackInstances.builder()
+                    .deploymentTargets(DeploymentTargets.builder().accounts(groupAccounts).build())
+                    .regions(new HashSet<>(regions))
+                    .parameterOverrides(group % 2 == 0 ? parameters_1 : null)
+                    .build());
+        }
+        final StackInstancesPlaceHolder plan = new StackInstancesPlaceHolder();
+        plan.setCreateStackInstances(stackInstancesList);
+        return plan;
+    }
+
+    @Test
+    public void testRoundTrip() {
+        final StackInstancesPlaceHolder plan = new StackInstancesPlaceHolder();
+        plan.setCreateStackInstances(Arrays.asList(SELF_MANAGED_STACK_INSTANCES_1, SELF_MANAGED_STACK_INSTANCES_4));
+        plan.setDeleteStackInstances(Arrays.asList(SERVICE_MANAGED_STACK_INSTANCES));
+        plan.setUpdateStackInstances(Arrays.asList(
+                generateInstancesWithRegions(OU_1, Arrays.asList(account_1), INTER, region_1),
+                StackInstances.builder().regions(new HashSet<>()).build()));
+
+        assertThat(StackInstancesPlanCodec.decode(StackInstancesPlanCodec.encode(plan))).isEqualTo(plan);
+        assertThat(StackInstancesPlanCodec.decode(StackInstancesPlanCodec.encode(plan, false))).isEqualTo(plan);
+        assertThat(StackInstancesPlanCodec.decode(StackInstancesPlanCodec.encode(new StackInstancesPlaceHolder())))
+                .isEqualTo(new StackInstancesPlaceHolder());
+    }
+
+    @Test
+    public void testRoundTrip_LargePlan() throws JsonProcessingException {
+        final StackInstancesPlaceHolder plan = largePlan();
+
+        final String compressed = StackInstancesPlanCodec.encode(plan);
+        final String uncompressed = StackInstancesPlanCodec.encode(plan, false);
+        final String json = new ObjectMapper().writeValueAsString(plan);
+
+        assertThat(StackInstancesPlanCodec.decode(compressed)).isEqualTo(plan);
+        assertThat(StackInstancesPlanCodec.decode(uncompressed)).isEqualTo(plan);
+        assertThat(uncompressed.length()).isLessThan(json.length() / 4);
+        assertThat(compressed.length()).isLessThan(uncompressed.length());
+    }
+
+    @Test
+    public void testDecode_Invalid() {
+        assertThrows(IllegalArgumentException.class, () -> StackInstancesPlanCodec.decode("not a plan"));
+        assertThrows(IllegalArgumentException.class,
+                () -> StackInstancesPlanCodec.decode(Base64.getEncoder().encodeToString(new byte[]{9, 0})));
+        final String encoded = StackInstancesPlanCodec.encode(largePlan(), false);
+        assertThrows(IllegalArgumentException.class,
+                () -> StackInstancesPlanCodec.decode(encoded.substring(0, encoded.length() / 2)));
+    }
+}
@@ -0,0 +1,100 @@
+package software.amazon.cloudformation.stackset.util;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.stackset.DeploymentTargets;
+import software.amazon.cloudformation.stackset.StackInstances;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.DIFF;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.OU_1;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.OU_2;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.OU_3;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.account_1;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.generateInstances;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.generateInstancesWithRegions;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.parameters_1;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.parameters_2;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.region_1;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.region_2;
+import static software.amazon.cloudformation.stackset.util.AltTestUtils.region_3;
+
+public class StackInstancesPlannerTest {
+
+    private static StackInstances ouInstances(final List<String> ous, final List<String> regions) {
+        return StackInstances.builder()
+                .deploymentTargets(DeploymentTargets.builder().organizationalUnitIds(new HashSet<>(ous)).build())
+                .regions(new HashSet<>(regions))
+                .parameterOverrides(parameters_1)
+                .build();
+    }
+
+    @Test
+    public void testPlan_GroupsRegionsWithSameTargets() {
+        // OU_1 in {region_1, region_2}, OU_2 in {region_1}, OU_3 in {region_2}: 3 region sets but only 2 target sets
+        final List<StackInstances> stackInstancesList = Arrays.asList(
+                ouInstances(Arrays.asList(OU_1), Arrays.asList(region_1, region_2)),
+                ouInstances(Arrays.asList(OU_2), Arrays.asList(region_1)),
+                ouInstances(Arrays.asList(OU_3), Arrays.asList(region_2)));
+
+        final List<StackInstances> planned = StackInstancesPlanner.builder().build().plan(stackInstancesList, true);
+
+        assertThat(planned).containsExactlyInAnyOrder(
+                ouInstances(Arrays.asList(OU_1, OU_2), Arrays.asList(region_1)),
+                ouInstances(Arrays.asList(OU_1, OU_3), Arrays.asList(region_2)));
+    }
+
+    @Test
+    public void testPlan_KeepsParameterGroupsApart() {
+        final List<StackInstances> stackInstancesList = Arrays.asList(
+                generateInstances(Arrays.asList(OU_1), new HashSet<>(Arrays.asList(region_1)), parameters_1),
+                generateInstances(Arrays.asList(OU_2), new HashSet<>(Arrays.asList(region_1)), parameters_2));
+
+        assertThat(StackInstancesPlanner.builder().build().plan(stackInstancesList, true)).hasSize(2);
+        // Parameter overrides are not part of delete operations
+        assertThat(StackInstancesPlanner.builder().build().plan(stackInstancesList, false)).containsExactly(
+                StackInstances.builder()
+                        .deploymentTargets(DeploymentTargets.builder()
+                                .organizationalUnitIds(new HashSet<>(Arrays.asList(OU_1, OU_2))).build())
+                        .regions(new HashSet<>(Arrays.asList(region_1)))
+                        .build());
+    }
+
+    @Test
+    public void testPlan_RespectsOperationLimits() {
+        final List<StackInstances> stackInstancesList = Arrays.asList(
+                ouInstances(Arrays.asList(OU_1, OU_2, OU_3), Arrays.asList(region_1, region_2, region_3)));
+
+        final List<StackInstances> planned = StackInstancesPlanner.builder()
+                .maxTargetsPerOperation(2)
+                .maxRegionsPerOperation(2)
+                .build()
+                .plan(stackInstancesList, true);
+
+        assertThat(planned).hasSize(4);
+        planned.forEach(stackInstances -> {
+            assertThat(stackInstances.getDeploymentTargets().getOrganizationalUnitIds().size()).isLessThanOrEqualTo(2);
+            assertThat(stackInstances.getRegions().size()).isLessThanOrEqualTo(2);
+        });
+    }
+
+    @Test
+    public void testPlan_MergesAccountLevelTargetingRegions() {
+        final List<StackInstances> stackInstancesList = Arrays.asList(
+                generateInstancesWithRegions(OU_1, account_1, DIFF, region_1),
+                generateInstancesWithRegions(OU_2, account_1, DIFF, region_1),
+                generateInstancesWithRegions(OU_1, account_1, DIFF, region_2));
+
+        assertThat(StackInstancesPlanner.builder().build().plan(stackInstancesList, true)).containsExactly(
+                generateInstancesWithRegions(OU_1, Arrays.asList(account_1), DIFF,
+                        new HashSet<>(Arrays.asList(region_1, region_2))),
+                generateInstancesWithRegions(OU_2, account_1, DIFF, region_1));
+
+        // With RegionOrder, region_2 must not be deployed before OU_2 in region_1
+        assertThat(StackInstancesPlanner.builder().preserveRegionOrder(true).build().plan(stackInstancesList, true))
+                .containsExactlyElementsOf(stackInstancesList);
+    }
+}
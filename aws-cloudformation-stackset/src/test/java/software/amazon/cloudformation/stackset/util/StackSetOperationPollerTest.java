@@ -0,0 +1,177 @@
+package software.amazon.cloudformation.stackset.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.cloudformation.model.StackSetOperation;
+import software.amazon.awssdk.services.cloudformation.model.StackSetOperationResultStatus;
+import software.amazon.awssdk.services.cloudformation.model.StackSetOperationResultSummary;
+import software.amazon.awssdk.services.cloudformation.model.StackSetOperationStatus;
+import software.amazon.cloudformation.stackset.util.StackSetOperationPoller.OperationPoll;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StackSetOperationPollerTest {
+
+    private static final Instant START = Instant.parse("2023-01-01T00:00:00Z");
+
+    private MutableClock clock;
+
+    private StackSetOperationPoller poller;
+
+    private AtomicInteger describeCount;
+
+    @BeforeEach
+    public void setup() {
+        clock = new MutableClock(START);
+        poller = new StackSetOperationPoller(clock);
+        describeCount = new AtomicInteger();
+    }
+
+    private Supplier<StackSetOperation> describe(final StackSetOperationStatus status) {
+        return () -> {
+            describeCount.incrementAndGet();
+            return StackSetOperation.builder().status(status).creationTimestamp(START).build();
+        };
+    }
+
+    private static List<StackSetOperationResultSummary> results(final StackSetOperationResultStatus... statuses) {
+        return Arrays.stream(statuses)
+                .map(status -> StackSetOperationResultSummary.builder().status(status).build())
+                .collect(Collectors.toList());
+    }
+
+    private static final int SAMPLED_POLL = StackSetOperationPoller.RESULTS_SAMPLE_INTERVAL;
+
+    @Test
+    public void testPoll_EveryPollDescribesTheOperation() {
+        poller.poll(describe(StackSetOperationStatus.RUNNING), () -> results(StackSetOperationResultStatus.PENDING), 1);
+        final OperationPoll poll = poller.poll(describe(StackSetOperationStatus.SUCCEEDED), () -> results(), 2);
+
+        assertThat(poll.isDone()).isTrue();
+        assertThat(poll.getExpectedRemaining()).isNull();
+        assertThat(describeCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void testPoll_ResultsOnlyListedWhenEstimable() {
+        final AtomicInteger listCount = new AtomicInteger();
+        final Supplier<List<StackSetOperationResultSummary>> listResults = () -> {
+            listCount.incrementAndGet();
+            return results(StackSetOperationResultStatus.SUCCEEDED, StackSetOperationResultStatus.PENDING);
+        };
+
+        poller.poll(describe(StackSetOperationStatus.QUEUED), listResults, SAMPLED_POLL);
+        poller.poll(describe(StackSetOperationStatus.SUCCEEDED), listResults, SAMPLED_POLL);
+        final OperationPoll poll = poller.poll(() -> StackSetOperation.builder().status(StackSetOperationStatus.RUNNING).build(), listResults, SAMPLED_POLL);
+        assertThat(poll.getExpectedRemaining()).isNull();
+        assertThat(listCount.get()).isEqualTo(0);
+
+        poller.poll(describe(StackSetOperationStatus.RUNNING), listResults, SAMPLED_POLL);
+        assertThat(listCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testPoll_ResultsSampledEveryInterval() {
+        final AtomicInteger listCount = new AtomicInteger();
+        final Supplier<List<StackSetOperationResultSummary>> listResults = () -> {
+            listCount.incrementAndGet();
+            return results(StackSetOperationResultStatus.SUCCEEDED, StackSetOperationResultStatus.PENDING);
+        };
+
+        for (int pollCount = 1; pollCount <= 3 * SAMPLED_POLL; pollCount++) {
+            poller.poll(describe(StackSetOperationStatus.RUNNING), listResults, pollCount);
+        }
+
+        assertThat(describeCount.get()).isEqualTo(3 * SAMPLED_POLL);
+        assertThat(listCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void testPoll_EstimatesRemainingTime() {
+        clock.advance(Duration.ofMinutes(1L));
+        final OperationPoll poll = poller.poll(describe(StackSetOperationStatus.RUNNING),
+                () -> results(StackSetOperationResultStatus.SUCCEEDED, StackSetOperationResultStatus.RUNNING,
+                        StackSetOperationResultStatus.PENDING, StackSetOperationResultStatus.PENDING), SAMPLED_POLL);
+
+        // 1 of 4 stack instances completed in 1 minute
+        assertThat(poll.getExpectedRemaining()).isEqualTo(Duration.ofMinutes(3L));
+    }
+
+    @Test
+    public void testPoll_NoEstimateWithoutProgress() {
+        clock.advance(Duration.ofMinutes(1L));
+        final OperationPoll poll = poller.poll(describe(StackSetOperationStatus.RUNNING),
+                () -> results(StackSetOperationResultStatus.RUNNING, StackSetOperationResultStatus.PENDING), SAMPLED_POLL);
+
+        assertThat(poll.getExpectedRemaining()).isNull();
+    }
+
+    @Test
+    public void testAdaptivePollingDelay() {
+        final AdaptivePollingDelay delay = new AdaptivePollingDelay(attempt -> Duration.ofSeconds(7L), Duration.ofMinutes(10L), clock);
+        assertThat(delay.nextDelay(1)).isEqualTo(Duration.ofSeconds(7L));
+
+        final StackSetOperation operation = describe(StackSetOperationStatus.RUNNING).get();
+        delay.expect(operation, Duration.ofMillis(100L));
+        assertThat(delay.nextDelay(2)).isEqualTo(AdaptivePollingDelay.MIN_DELAY);
+
+        delay.expect(operation, Duration.ofMinutes(3L));
+        assertThat(delay.nextDelay(3)).isEqualTo(Duration.ofMinutes(3L));
+
+        delay.expect(operation, Duration.ofHours(1L));
+        assertThat(delay.nextDelay(4)).isEqualTo(AdaptivePollingDelay.MAX_DELAY);
+
+        // Polls between samples keep counting down the last estimate
+        delay.expect(operation, Duration.ofMinutes(3L));
+        clock.advance(Duration.ofMinutes(1L));
+        delay.expect(operation, null);
+        assertThat(delay.nextDelay(5)).isEqualTo(Duration.ofMinutes(2L));
+        clock.advance(Duration.ofMinutes(3L));
+        assertThat(delay.nextDelay(6)).isEqualTo(Duration.ofSeconds(7L));
+
+        // The timeout runs from the creation of the operation, whichever instance polls it
+        clock.advance(Duration.ofMinutes(7L));
+        final AdaptivePollingDelay resumed = new AdaptivePollingDelay(attempt -> Duration.ofSeconds(7L), Duration.ofMinutes(10L), clock);
+        resumed.expect(operation, Duration.ofMinutes(3L));
+        assertThat(resumed.nextDelay(1)).isEqualTo(Duration.ZERO);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(final Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(final Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
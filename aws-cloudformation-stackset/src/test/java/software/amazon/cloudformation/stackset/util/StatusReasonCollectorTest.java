@@ -0,0 +1,61 @@
+package software.amazon.cloudformation.stackset.util;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.cloudformation.model.StackSetOperationResultStatus;
+import software.amazon.awssdk.services.cloudformation.model.StackSetOperationResultSummary;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.cloudformation.stackset.util.TestUtils.ACCOUNT_ID_1;
+import static software.amazon.cloudformation.stackset.util.TestUtils.ACCOUNT_ID_2;
+import static software.amazon.cloudformation.stackset.util.TestUtils.US_EAST_1;
+import static software.amazon.cloudformation.stackset.util.TestUtils.US_WEST_1;
+
+public class StatusReasonCollectorTest {
+
+    private static StackSetOperationResultSummary summary(final StackSetOperationResultStatus status,
+                                                          final String account,
+                                                          final String region,
+                                                          final String statusReason) {
+        return StackSetOperationResultSummary.builder()
+                .status(status)
+                .account(account)
+                .region(region)
+                .statusReason(statusReason)
+                .build();
+    }
+
+    @Test
+    public void testAccept_DistinctReasonsAndHistogram() {
+        final StatusReasonCollector collector = new StatusReasonCollector(100);
+        collector.accept(Arrays.asList(
+                summary(StackSetOperationResultStatus.FAILED, ACCOUNT_ID_1, US_EAST_1, "reason 1"),
+                summary(StackSetOperationResultStatus.FAILED, ACCOUNT_ID_1, US_WEST_1, "reason 1"),
+                summary(StackSetOperationResultStatus.SUCCEEDED, ACCOUNT_ID_2, US_EAST_1, "ignored"),
+                summary(StackSetOperationResultStatus.FAILED, ACCOUNT_ID_2, US_EAST_1, "reason 2")));
+
+        assertThat(collector.getStatusReasons()).containsExactly("reason 1", "reason 2");
+        assertThat(collector.getFailuresByReason()).containsEntry("reason 1", 2).containsEntry("reason 2", 1);
+        assertThat(collector.getFailuresByRegion()).containsEntry(US_EAST_1, 2).containsEntry(US_WEST_1, 1);
+        assertThat(collector.getFailuresByAccount()).containsEntry(ACCOUNT_ID_1, 2).containsEntry(ACCOUNT_ID_2, 1);
+        assertThat(collector.isFull()).isFalse();
+
+        final StringBuilder errorMessage = new StringBuilder("reasons:");
+        collector.appendTo(errorMessage);
+        assertThat(errorMessage.toString()).isEqualTo("reasons: [reason 1] [reason 2]");
+    }
+
+    @Test
+    public void testAccept_StopsCollectingOnceFull() {
+        final StatusReasonCollector collector = new StatusReasonCollector(10);
+        collector.accept(Arrays.asList(
+                summary(StackSetOperationResultStatus.FAILED, ACCOUNT_ID_1, US_EAST_1, "long reason 1"),
+                summary(StackSetOperationResultStatus.FAILED, ACCOUNT_ID_2, US_EAST_1, "long reason 2")));
+
+        assertThat(collector.isFull()).isTrue();
+        assertThat(collector.getStatusReasons()).containsExactly("long reason 1");
+        // Failures are still counted
+        assertThat(collector.getFailuresByRegion()).containsEntry(US_EAST_1, 2);
+    }
+}
@@ -0,0 +1,52 @@
+package software.amazon.cloudformation.stackset.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TemplateSummaryCacheTest {
+
+    @BeforeEach
+    public void setup() {
+        TemplateSummaryCache.clear();
+    }
+
+    @Test
+    public void testTemplateKey() {
+        assertThat(TemplateSummaryCache.templateKey("{}"))
+                .isEqualTo(TemplateSummaryCache.templateKey("{}"))
+                .isNotEqualTo(TemplateSummaryCache.templateKey("{ }"))
+                .startsWith("sha256:");
+        assertThat(TemplateSummaryCache.templateKey(null)).isNull();
+    }
+
+    @Test
+    public void testPut_OnlySharesTemplateBodiesWithoutTransform() {
+        final String body = "{\"Resources\":{}}";
+        final String bodyWithTransform = "{\"Transform\":\"AWS::Serverless-2016-10-31\"}";
+
+        TemplateSummaryCache.put(body, Collections.singleton("AWS::S3::Bucket"));
+        TemplateSummaryCache.put(bodyWithTransform, Collections.singleton("AWS::S3::Bucket"));
+        TemplateSummaryCache.put(null, Collections.singleton("AWS::S3::Bucket"));
+
+        assertThat(TemplateSummaryCache.get(TemplateSummaryCache.templateKey(body))).containsExactly("AWS::S3::Bucket");
+        assertThat(TemplateSummaryCache.get(TemplateSummaryCache.templateKey(bodyWithTransform))).isNull();
+        assertThat(TemplateSummaryCache.get(TemplateSummaryCache.templateKey(null))).isNull();
+    }
+
+    @Test
+    public void testPut_EvictsLeastRecentlyUsed() {
+        TemplateSummaryCache.put("template-0", Collections.emptySet());
+        for (int i = 1; i <= 64; i++) {
+            // Keep the first template recently used
+            TemplateSummaryCache.get(TemplateSummaryCache.templateKey("template-0"));
+            TemplateSummaryCache.put("template-" + i, Collections.emptySet());
+        }
+
+        assertThat(TemplateSummaryCache.get(TemplateSummaryCache.templateKey("template-0"))).isNotNull();
+        assertThat(TemplateSummaryCache.get(TemplateSummaryCache.templateKey("template-1"))).isNull();
+    }
+}
@@ -77,6 +77,29 @@ public class TestUtils {
             .append("  }\n")
             .append("}").toString();
 
+
+    public final static String NESTED_STACK_TEMPLATE_BODY = new StringBuilder()
+            .append("{\n")
+            .append("  \"AWSTemplateFormatVersion\" : \"2010-09-09\",\n")
+            .append("  \"Resources\" : {\n")
+            .append("    \"NestedStack\" : {\n")
+            .append("      \"Type\" : \"AWS::CloudFormation::Stack\",\n")
+            .append("      \"Properties\" : {\n")
+            .append("        \"TemplateURL\" : \"http://s3-us-west-2.amazonaws.com/example/nested.json\"\n")
+            .append("      }\n")
+            .append("    }\n")
+            .append("  }\n")
+            .append("}").toString();
+
+    public final static String NESTED_STACK_SET_TEMPLATE_BODY = new StringBuilder()
+            .append("AWSTemplateFormatVersion: '2010-09-09'\n")
+            .append("Resources:\n")
+            .append("  NestedStackSet:\n")
+            .append("    Type: AWS::CloudFormation::StackSet\n")
+            .append("    Properties:\n")
+            .append("      StackSetName: Nested\n")
+            .append("      PermissionModel: SELF_MANAGED\n").toString();
+
     public final static String STACK_SET_NAME = "StackSet";
     public final static String STACK_SET_ID = "StackSet:stack-set-id";
     public final static String CALL_AS_SELF = "SELF";
@@ -193,6 +216,12 @@ public class TestUtils {
             .maxConcurrentCount(1)
             .build();
 
+    public final static OperationPreferences OPERATION_PREFERENCES_CONCURRENT_DISPATCH = OperationPreferences.builder()
+            .failureToleranceCount(0)
+            .maxConcurrentCount(1)
+            .concurrentDispatch(true)
+            .build();
+
     public final static OperationPreferences OPERATION_PREFERENCES_FULL = OperationPreferences.builder()
             .failureToleranceCount(0)
             .failureTolerancePercentage(0)
@@ -496,6 +525,20 @@ public class TestUtils {
             .callAs(CALL_AS_DA)
             .build();
 
+    public final static ResourceModel SERVICE_MANAGED_NESTED_STACK_MODEL = ResourceModel.builder()
+            .stackSetId(STACK_SET_ID)
+            .permissionModel(SERVICE_MANAGED)
+            .capabilities(CAPABILITIES)
+            .description(DESCRIPTION)
+            .autoDeployment(AUTO_DEPLOYMENT_ENABLED)
+            .templateBody(NESTED_STACK_TEMPLATE_BODY)
+            .stackInstancesGroup(new HashSet<>(Arrays.asList(UPDATED_SERVICE_MANAGED_STACK_INSTANCES)))
+            .parameters(new HashSet<>(Arrays.asList(PARAMETER_1, PARAMETER_2)))
+            .operationPreferences(OPERATION_PREFERENCES)
+            .tags(TAGS)
+            .callAs(CALL_AS_DA)
+            .build();
+
     public final static ResourceModel SELF_MANAGED_MODEL = ResourceModel.builder()
             .stackSetName(STACK_SET_NAME)
             .stackSetId(STACK_SET_ID)
@@ -536,6 +579,20 @@ public class TestUtils {
             .managedExecution(MANAGED_EXECUTION_ENABLED_RESOURCE_MODEL)
             .build();
 
+    public final static ResourceModel SELF_MANAGED_CONCURRENT_DISPATCH_MODEL = ResourceModel.builder()
+            .stackSetId(STACK_SET_ID)
+            .permissionModel(SELF_MANAGED)
+            .capabilities(CAPABILITIES)
+            .templateBody(TEMPLATE_BODY)
+            .description(DESCRIPTION)
+            .stackInstancesGroup(
+                    new HashSet<>(Arrays.asList(SELF_MANAGED_STACK_INSTANCES_1, SELF_MANAGED_STACK_INSTANCES_2)))
+            .parameters(new HashSet<>(Arrays.asList(PARAMETER_1, PARAMETER_2)))
+            .operationPreferences(OPERATION_PREFERENCES_CONCURRENT_DISPATCH)
+            .tags(TAGS)
+            .managedExecution(MANAGED_EXECUTION_ENABLED_RESOURCE_MODEL)
+            .build();
+
     public final static ResourceModel UPDATED_SELF_MANAGED_WITH_ME_DISABLED_MODEL = ResourceModel.builder()
             .stackSetId(STACK_SET_ID)
             .permissionModel(SELF_MANAGED)
@@ -570,6 +627,28 @@ public class TestUtils {
             .tags(TAGS)
             .build();
 
+    public final static ResourceModel SELF_MANAGED_NESTED_STACK_MODEL = ResourceModel.builder()
+            .stackSetId(STACK_SET_ID)
+            .permissionModel(SELF_MANAGED)
+            .capabilities(CAPABILITIES)
+            .templateBody(NESTED_STACK_TEMPLATE_BODY)
+            .description(DESCRIPTION)
+            .stackInstancesGroup(new HashSet<>(Arrays.asList(SELF_MANAGED_STACK_INSTANCES_2)))
+            .parameters(new HashSet<>(Arrays.asList(PARAMETER_1, PARAMETER_2)))
+            .tags(TAGS)
+            .build();
+
+    public final static ResourceModel SELF_MANAGED_NESTED_STACK_SET_MODEL = ResourceModel.builder()
+            .stackSetId(STACK_SET_ID)
+            .permissionModel(SELF_MANAGED)
+            .capabilities(CAPABILITIES)
+            .templateBody(NESTED_STACK_SET_TEMPLATE_BODY)
+            .description(DESCRIPTION)
+            .stackInstancesGroup(new HashSet<>(Arrays.asList(SELF_MANAGED_STACK_INSTANCES_2)))
+            .parameters(new HashSet<>(Arrays.asList(PARAMETER_1, PARAMETER_2)))
+            .tags(TAGS)
+            .build();
+
     public final static ResourceModel SELF_MANAGED_DUPLICATE_INSTANCES_MODEL = ResourceModel.builder()
             .stackSetId(STACK_SET_ID)
             .permissionModel(SELF_MANAGED)
@@ -682,6 +761,14 @@ public class TestUtils {
             .operationPreferences(OPERATION_PREFERENCES)
             .build();
 
+    public final static ResourceModel SIMPLE_NESTED_STACK_MODEL = ResourceModel.builder()
+            .stackSetId(STACK_SET_ID)
+            .permissionModel(SELF_MANAGED)
+            .templateBody(NESTED_STACK_TEMPLATE_BODY)
+            .tags(TAGS)
+            .operationPreferences(OPERATION_PREFERENCES)
+            .build();
+
     public final static DescribeStackSetOperationResponse OPERATION_SUCCEED_RESPONSE =
             DescribeStackSetOperationResponse.builder()
                     .stackSetOperation(StackSetOperation.builder()
@@ -689,6 +776,13 @@ public class TestUtils {
                             .build())
                     .build();
 
+    public final static DescribeStackSetOperationResponse OPERATION_RUNNING_RESPONSE =
+            DescribeStackSetOperationResponse.builder()
+                    .stackSetOperation(StackSetOperation.builder()
+                            .status(StackSetOperationStatus.RUNNING)
+                            .build())
+                    .build();
+
     public final static DescribeStackSetOperationResponse OPERATION_STOPPED_RESPONSE =
             DescribeStackSetOperationResponse.builder()
                     .stackSetOperation(StackSetOperation.builder()